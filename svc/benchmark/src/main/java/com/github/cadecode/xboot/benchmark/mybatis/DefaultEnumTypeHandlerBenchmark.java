@@ -0,0 +1,86 @@
+package com.github.cadecode.xboot.benchmark.mybatis;
+
+import com.github.cadecode.xboot.starter.mybatis.convertor.DbEnumConvertible;
+import com.github.cadecode.xboot.starter.mybatis.convertor.DefaultEnumTypeHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DefaultEnumTypeHandler 枚举查找基准
+ * <p>通过 getNullableResult 从 ResultSet 读取数值并查找枚举，ResultSet 为固定返回值的动态代理，
+ * 代理调用的开销在各方法中相同，构造方法单独测量
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultEnumTypeHandlerBenchmark {
+
+    private DefaultEnumTypeHandler<BenchmarkStatus> convertibleHandler;
+
+    private DefaultEnumTypeHandler<BenchmarkOrdinal> ordinalHandler;
+
+    private ResultSet resultSet;
+
+    @Setup
+    public void setUp() {
+        convertibleHandler = new DefaultEnumTypeHandler<>(BenchmarkStatus.class);
+        ordinalHandler = new DefaultEnumTypeHandler<>(BenchmarkOrdinal.class);
+        resultSet = fixedResultSet(3);
+    }
+
+    @Benchmark
+    public BenchmarkStatus lookupConvertible() throws SQLException {
+        return convertibleHandler.getNullableResult(resultSet, 1);
+    }
+
+    @Benchmark
+    public BenchmarkOrdinal lookupOrdinal() throws SQLException {
+        return ordinalHandler.getNullableResult(resultSet, 1);
+    }
+
+    @Benchmark
+    public DefaultEnumTypeHandler<BenchmarkStatus> create() {
+        return new DefaultEnumTypeHandler<>(BenchmarkStatus.class);
+    }
+
+    /**
+     * getInt 固定返回 value，wasNull 返回 false
+     */
+    private static ResultSet fixedResultSet(int value) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getInt" -> value;
+                    case "wasNull" -> false;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    public enum BenchmarkStatus implements DbEnumConvertible {
+        CREATED(1), PAID(2), SHIPPED(3), FINISHED(4), CANCELED(5);
+
+        private final int dbValue;
+
+        BenchmarkStatus(int dbValue) {
+            this.dbValue = dbValue;
+        }
+
+        @Override
+        public Integer dbValue() {
+            return dbValue;
+        }
+    }
+
+    public enum BenchmarkOrdinal {
+        A, B, C, D, E
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.cadecode.xboot.benchmark.pipeline;
+
+import com.github.cadecode.xboot.common.extension.pipeline.selector.DummyFilterSelector;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelector;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.IndexedFilterSelector;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.LocalListFilterSelector;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.MatchAllFilterSelector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FilterSelector matchFilter 基准
+ * <p>对比各 FilterSelector 实现在不同 filter 数量下的匹配耗时，MatchAll / Dummy 作为基线
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterSelectorBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int filterCount;
+
+    private FilterSelector localList;
+    private FilterSelector indexed;
+    private FilterSelector matchAll;
+    private FilterSelector dummy;
+
+    /**
+     * 列表中最后一个 filter，线性扫描的最坏情况
+     */
+    private String lastName;
+
+    /**
+     * 未启用的 filter
+     */
+    private String missName;
+
+    @Setup
+    public void setUp() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < filterCount; i++) {
+            names.add("BenchmarkFilter" + i);
+        }
+        localList = new LocalListFilterSelector(names);
+        indexed = IndexedFilterSelector.of(names);
+        matchAll = new MatchAllFilterSelector();
+        dummy = new DummyFilterSelector();
+        // 使用新的 String 实例，避免命中 equals 的引用相等捷径
+        lastName = new String(names.get(filterCount - 1));
+        missName = "BenchmarkMissFilter";
+    }
+
+    @Benchmark
+    public boolean localListHit() {
+        return localList.matchFilter(lastName);
+    }
+
+    @Benchmark
+    public boolean localListMiss() {
+        return localList.matchFilter(missName);
+    }
+
+    @Benchmark
+    public boolean indexedHit() {
+        return indexed.matchFilter(lastName);
+    }
+
+    @Benchmark
+    public boolean indexedMiss() {
+        return indexed.matchFilter(missName);
+    }
+
+    @Benchmark
+    public boolean matchAll() {
+        return matchAll.matchFilter(lastName);
+    }
+
+    @Benchmark
+    public boolean dummy() {
+        return dummy.matchFilter(lastName);
+    }
+}
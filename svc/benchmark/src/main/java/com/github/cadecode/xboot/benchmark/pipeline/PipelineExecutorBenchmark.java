@@ -0,0 +1,153 @@
+package com.github.cadecode.xboot.benchmark.pipeline;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.extension.pipeline.AbstractPipelineContext;
+import com.github.cadecode.xboot.common.extension.pipeline.PipelineExecutor;
+import com.github.cadecode.xboot.common.extension.pipeline.filter.AbstractPipelineFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.pool.AbstractPooledPipelineContext;
+import com.github.cadecode.xboot.common.extension.pipeline.pool.PipelineContextPool;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelector;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.IndexedFilterSelector;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.MatchAllFilterSelector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PipelineExecutor execute 基准
+ * <p>不同链长度下，全部启用与隔一个启用两种 selector 的执行耗时，filter 只做一次计数，结果反映执行框架本身的开销
+ * <p>executeMatchAllPooled 从 PipelineContextPool 取出上下文，与 executeMatchAll 对比每次新建上下文的开销，配合 -prof gc 查看分配
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineExecutorBenchmark {
+
+    @Param({"1", "5", "20", "50"})
+    private int chainLength;
+
+    private PipelineExecutor<BenchmarkContext> executor;
+
+    private PipelineExecutor<PooledBenchmarkContext> pooledExecutor;
+
+    private PipelineContextPool<PooledBenchmarkContext> pool;
+
+    private FilterSelector matchAll;
+
+    /**
+     * 只启用偶数下标的 filter（EvenFilter）
+     */
+    private FilterSelector half;
+
+    @Setup
+    public void setUp() {
+        executor = new PipelineExecutor<>();
+        for (int i = 0; i < chainLength; i++) {
+            executor.appendFilter(i % 2 == 0 ? new EvenFilter() : new OddFilter(), "benchmark");
+        }
+        matchAll = new MatchAllFilterSelector();
+        half = IndexedFilterSelector.of(List.of(EvenFilter.class.getSimpleName()));
+        pooledExecutor = new PipelineExecutor<>();
+        for (int i = 0; i < chainLength; i++) {
+            pooledExecutor.appendFilter(new PooledFilter(), "benchmark");
+        }
+        pool = new PipelineContextPool<>(PooledBenchmarkContext::new, type -> matchAll);
+        // 提前编译执行计划
+        executor.execute(new BenchmarkContext(matchAll));
+        try (PooledBenchmarkContext context = pool.acquire(BenchmarkType.BENCHMARK)) {
+            pooledExecutor.execute(context);
+        }
+    }
+
+    @Benchmark
+    public void executeMatchAll(Blackhole bh) {
+        BenchmarkContext context = new BenchmarkContext(matchAll);
+        executor.execute(context);
+        bh.consume(context.count);
+    }
+
+    @Benchmark
+    public void executeHalf(Blackhole bh) {
+        BenchmarkContext context = new BenchmarkContext(half);
+        executor.execute(context);
+        bh.consume(context.count);
+    }
+
+    @Benchmark
+    public void executeMatchAllPooled(Blackhole bh) {
+        PooledBenchmarkContext context = pool.acquire(BenchmarkType.BENCHMARK);
+        pooledExecutor.execute(context);
+        bh.consume(context.count);
+        context.release();
+    }
+
+    enum BenchmarkType implements ExtensionType {
+        BENCHMARK;
+
+        @Override
+        public String getType() {
+            return name();
+        }
+    }
+
+    static class BenchmarkContext extends AbstractPipelineContext {
+
+        private int count;
+
+        BenchmarkContext(FilterSelector filterSelector) {
+            super(BenchmarkType.BENCHMARK, filterSelector);
+        }
+
+        @Override
+        public boolean continueChain() {
+            return true;
+        }
+    }
+
+    static class PooledBenchmarkContext extends AbstractPooledPipelineContext {
+
+        private int count;
+
+        @Override
+        protected void reset() {
+            count = 0;
+        }
+
+        @Override
+        public boolean continueChain() {
+            return true;
+        }
+    }
+
+    static class PooledFilter extends AbstractPipelineFilter<PooledBenchmarkContext> {
+
+        @Override
+        public void handle(PooledBenchmarkContext context) {
+            context.count++;
+        }
+    }
+
+    static class EvenFilter extends AbstractPipelineFilter<BenchmarkContext> {
+
+        @Override
+        public void handle(BenchmarkContext context) {
+            context.count++;
+        }
+    }
+
+    static class OddFilter extends AbstractPipelineFilter<BenchmarkContext> {
+
+        @Override
+        public void handle(BenchmarkContext context) {
+            context.count++;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.cadecode.xboot.benchmark.plugin;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.extension.plugin.PluginContext;
+import com.github.cadecode.xboot.common.extension.plugin.PluginSelectorExecutor;
+import com.github.cadecode.xboot.common.extension.plugin.PluginService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.plugin.core.PluginRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PluginSelectorExecutor selectService 基准
+ * <p>每个插件支持一个业务类型，分别选择第一个与最后一个注册的插件，覆盖线性查找的最好与最坏情况
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PluginSelectorBenchmark {
+
+    @Param({"10", "50", "100", "500"})
+    private int pluginCount;
+
+    private PluginSelectorExecutor executor;
+
+    private PluginContext firstContext;
+
+    private PluginContext lastContext;
+
+    @Setup
+    public void setUp() {
+        List<PluginService> plugins = new ArrayList<>();
+        for (int i = 0; i < pluginCount; i++) {
+            plugins.add(new BenchmarkPlugin(new BenchmarkPluginType("TYPE_" + i)));
+        }
+        executor = new PluginSelectorExecutor(PluginRegistry.of(plugins));
+        firstContext = new BenchmarkPluginContext(new BenchmarkPluginType("TYPE_0"));
+        lastContext = new BenchmarkPluginContext(new BenchmarkPluginType("TYPE_" + (pluginCount - 1)));
+    }
+
+    @Benchmark
+    public Optional<BenchmarkService> selectFirst() {
+        return executor.selectService(BenchmarkService.class, firstContext);
+    }
+
+    @Benchmark
+    public Optional<BenchmarkService> selectLast() {
+        return executor.selectService(BenchmarkService.class, lastContext);
+    }
+
+    @Benchmark
+    public List<BenchmarkService> selectServices() {
+        return executor.selectServices(BenchmarkService.class, lastContext);
+    }
+
+    record BenchmarkPluginType(String type) implements ExtensionType {
+
+        @Override
+        public String getType() {
+            return type;
+        }
+    }
+
+    record BenchmarkPluginContext(ExtensionType pluginType) implements PluginContext {
+
+        @Override
+        public ExtensionType getPluginType() {
+            return pluginType;
+        }
+    }
+
+    public interface BenchmarkService extends PluginService {
+    }
+
+    static class BenchmarkPlugin implements BenchmarkService {
+
+        private final ExtensionType type;
+
+        BenchmarkPlugin(ExtensionType type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean supports(PluginContext context) {
+            return type.equals(context.getPluginType());
+        }
+    }
+}
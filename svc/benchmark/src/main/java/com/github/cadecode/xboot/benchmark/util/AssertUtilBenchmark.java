@@ -0,0 +1,56 @@
+package com.github.cadecode.xboot.benchmark.util;
+
+import com.github.cadecode.xboot.common.enums.ErrorCode;
+import com.github.cadecode.xboot.common.util.AssertUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AssertUtil 断言通过时的开销基准
+ * <p>对比可变参数、固定参数与 Supplier 重载，配合 -prof gc 查看 gc.alloc.rate.norm。
+ * 禁止内联 AssertUtil，模拟热点路径上 JIT 无法通过逃逸分析消除可变参数数组的调用；
+ * 各重载的实际分配以运行结果为准
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:CompileCommand=dontinline,com.github.cadecode.xboot.common.util.AssertUtil::*")
+public class AssertUtilBenchmark {
+
+    /**
+     * 断言条件从状态中读取，避免被常量折叠
+     */
+    private boolean failed;
+
+    private Long userId;
+
+    private String orderNo;
+
+    @Setup
+    public void setUp() {
+        failed = false;
+        userId = 10001L;
+        orderNo = "NO202610180001";
+    }
+
+    @Benchmark
+    public void varargs() {
+        AssertUtil.isTrue(failed, ErrorCode.UNKNOWN, "userId: {}, orderNo: {}", new Object[]{userId, orderNo});
+    }
+
+    @Benchmark
+    public void fixedArity() {
+        AssertUtil.isTrue(failed, ErrorCode.UNKNOWN, "userId: {}, orderNo: {}", userId, orderNo);
+    }
+
+    @Benchmark
+    public void supplier() {
+        AssertUtil.isTrue(failed, ErrorCode.UNKNOWN, () -> "order not found");
+    }
+}
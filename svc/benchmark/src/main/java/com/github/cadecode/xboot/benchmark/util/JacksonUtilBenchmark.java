@@ -0,0 +1,85 @@
+package com.github.cadecode.xboot.benchmark.util;
+
+import com.github.cadecode.xboot.common.util.JacksonUtil;
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonUtil toJson / toBean 基准
+ * <p>使用 JacksonUtil 默认配置的 ObjectMapper，对象包含基本类型、日期与子对象列表
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonUtilBenchmark {
+
+    @Param({"1", "20"})
+    private int itemCount;
+
+    private BenchmarkOrder order;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        // 不依赖 Spring 容器，使用 JacksonUtil 的默认 ObjectMapper
+        new JacksonUtil().afterPropertiesSet();
+        order = new BenchmarkOrder();
+        order.setId(1L);
+        order.setOrderNo("NO202610180001");
+        order.setCreateTime(new Date());
+        List<BenchmarkItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            BenchmarkItem item = new BenchmarkItem();
+            item.setSkuId((long) i);
+            item.setName("item-" + i);
+            item.setQuantity(i + 1);
+            items.add(item);
+        }
+        order.setItems(items);
+        json = JacksonUtil.toJson(order);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JacksonUtil.toJson(order);
+    }
+
+    @Benchmark
+    public BenchmarkOrder toBean() {
+        return JacksonUtil.toBean(json, BenchmarkOrder.class);
+    }
+
+    @Data
+    public static class BenchmarkOrder {
+
+        private Long id;
+
+        private String orderNo;
+
+        private Date createTime;
+
+        private List<BenchmarkItem> items;
+    }
+
+    @Data
+    public static class BenchmarkItem {
+
+        private Long skuId;
+
+        private String name;
+
+        private Integer quantity;
+    }
+}
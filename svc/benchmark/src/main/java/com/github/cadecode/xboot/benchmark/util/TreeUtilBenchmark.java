@@ -0,0 +1,63 @@
+package com.github.cadecode.xboot.benchmark.util;
+
+import com.github.cadecode.xboot.common.util.TreeUtil;
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TreeUtil listToTree 基准
+ * <p>节点按每层 fanOut 个子节点构造，模拟菜单、组织机构等树形数据
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeUtilBenchmark {
+
+    private static final long ROOT_ID = 0L;
+
+    @Param({"100", "1000"})
+    private int nodeCount;
+
+    @Param({"5"})
+    private int fanOut;
+
+    private List<BenchmarkNode> nodes;
+
+    @Setup
+    public void setUp() {
+        // listToTree 每次都会重新设置 children，节点可重复使用
+        nodes = new ArrayList<>(nodeCount);
+        for (long id = 1; id <= nodeCount; id++) {
+            BenchmarkNode node = new BenchmarkNode();
+            node.setId(id);
+            node.setParentId(id <= fanOut ? ROOT_ID : (id - 1) / fanOut);
+            nodes.add(node);
+        }
+    }
+
+    @Benchmark
+    public List<BenchmarkNode> listToTree() {
+        return TreeUtil.listToTree(nodes, ROOT_ID, BenchmarkNode::getId, BenchmarkNode::getParentId,
+                BenchmarkNode::setChildren);
+    }
+
+    @Data
+    public static class BenchmarkNode {
+
+        private Long id;
+
+        private Long parentId;
+
+        private List<BenchmarkNode> children;
+    }
+}
@@ -27,6 +27,14 @@ public interface ErrorCode {
         return DEFAULT_STATUS;
     }
 
+    /**
+     * 是否为预期内的业务错误，如参数校验不通过
+     * <p>预期内的错误由 GeneralException 以轻量模式创建：不记录调用栈，无 moreInfo 与 cause 时复用缓存的实例
+     */
+    default boolean isExpected() {
+        return false;
+    }
+
     /**
      * 未知异常
      */
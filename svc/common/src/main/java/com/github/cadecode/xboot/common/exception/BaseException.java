@@ -28,4 +28,11 @@ public class BaseException extends RuntimeException {
     public BaseException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace, Object... params) {
         super(StrUtil.format(message, params), cause, enableSuppression, writableStackTrace);
     }
+
+    /**
+     * 不设置 message，由子类覆盖 getMessage 提供
+     */
+    protected BaseException(Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(null, cause, enableSuppression, writableStackTrace);
+    }
 }
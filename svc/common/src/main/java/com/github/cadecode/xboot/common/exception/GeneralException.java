@@ -4,26 +4,61 @@ import cn.hutool.core.util.StrUtil;
 import com.github.cadecode.xboot.common.enums.ErrorCode;
 import lombok.Getter;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 通用异常类
+ * <p>moreInfo 与异常信息在首次读取时才按字符串模板格式化
+ * <p>轻量模式：ErrorCode.isExpected 为 true 或全局开启 lightweight 时，异常不记录调用栈；
+ * moreInfo 为空字符串且没有 cause 时按 ErrorCode 复用缓存的实例
  *
  * @author Cade Li
  * @date 2022/5/8
  */
-@Getter
 public class GeneralException extends BaseException {
 
+    /**
+     * 是否对所有 ErrorCode 开启轻量模式
+     */
+    private static volatile boolean lightweight;
+
+    /**
+     * 轻量模式下 moreInfo 为空字符串且无 cause 的缓存实例
+     */
+    private static final Map<ErrorCode, GeneralException> CACHED = new ConcurrentHashMap<>();
+
     /**
      * 错误信息码
      */
+    @Getter
     private final ErrorCode errorCode;
 
     /**
-     * 更多错误信息
+     * 更多错误信息模板
+     */
+    private final String moreInfoTemplate;
+
+    /**
+     * 字符串模板参数
+     */
+    private final Object[] params;
+
+    /**
+     * 格式化后的更多错误信息，首次读取时生成
+     */
+    private String moreInfo;
+
+    /**
+     * 完整异常信息，首次读取时生成
      */
-    private final String moreInfo;
+    private String message;
+
+    /**
+     * 是否为轻量模式下共享的缓存实例
+     */
+    private final boolean shared;
 
     /**
      * 构造方法
@@ -34,9 +69,51 @@ public class GeneralException extends BaseException {
      * @param params    字符串模板参数
      */
     public GeneralException(ErrorCode errorCode, Throwable throwable, String moreInfo, Object... params) {
-        super(geneErrorMessage(errorCode, moreInfo, params), throwable);
+        this(errorCode, throwable, !isLightweight(errorCode), moreInfo, params);
+    }
+
+    private GeneralException(ErrorCode errorCode, Throwable throwable, boolean writableStackTrace,
+                             String moreInfo, Object... params) {
+        super(throwable, writableStackTrace, writableStackTrace);
         this.errorCode = errorCode;
-        this.moreInfo = StrUtil.format(moreInfo, params);
+        this.moreInfoTemplate = moreInfo;
+        this.params = params;
+        this.shared = false;
+    }
+
+    /**
+     * 构造轻量模式下共享的缓存实例，异常信息在构造时生成，之后不再修改
+     */
+    private GeneralException(ErrorCode errorCode) {
+        super(null, false, false);
+        this.errorCode = errorCode;
+        this.moreInfoTemplate = StrUtil.EMPTY;
+        this.params = null;
+        this.shared = true;
+        this.moreInfo = StrUtil.EMPTY;
+        this.message = geneErrorMessage(errorCode, StrUtil.EMPTY);
+    }
+
+    /**
+     * 设置是否对所有 ErrorCode 开启轻量模式
+     * <p>Spring 容器中通过 x-boot.exception.lightweight 配置，见 LightweightExceptionBinder
+     */
+    public static void setLightweight(boolean enable) {
+        lightweight = enable;
+    }
+
+    /**
+     * 是否对所有 ErrorCode 开启了轻量模式
+     */
+    public static boolean isLightweight() {
+        return lightweight;
+    }
+
+    /**
+     * ErrorCode 是否使用轻量模式
+     */
+    public static boolean isLightweight(ErrorCode errorCode) {
+        return lightweight || (Objects.nonNull(errorCode) && errorCode.isExpected());
     }
 
     /**
@@ -62,6 +139,16 @@ public class GeneralException extends BaseException {
         return of(ErrorCode.UNKNOWN, throwable, moreInfo, params);
     }
 
+    /**
+     * 根据 ErrorCode 抛出异常，moreInfo 为空字符串，轻量模式下复用缓存的实例
+     *
+     * @param errorCode 错误信息码
+     * @return GeneralException
+     */
+    public static GeneralException of(ErrorCode errorCode) {
+        return of(errorCode, StrUtil.EMPTY);
+    }
+
     /**
      * 根据 ErrorCode 抛出异常
      *
@@ -95,19 +182,57 @@ public class GeneralException extends BaseException {
      * @return GeneralException
      */
     public static GeneralException of(ErrorCode errorCode, Throwable throwable, String moreInfo, Object... params) {
-        // 这里直接调用 StrUtil.format 得到 moreInfo
-        // 避免在构造方法中重复 format 解析字符串模板
-        return new GeneralException(errorCode, throwable, StrUtil.format(moreInfo, params));
+        boolean writableStackTrace = !isLightweight(errorCode);
+        if (!writableStackTrace && Objects.nonNull(errorCode) && Objects.isNull(throwable) && StrUtil.EMPTY.equals(moreInfo)) {
+            // 实例不可变，不记录调用栈与 suppressed，可直接复用
+            return CACHED.computeIfAbsent(errorCode, GeneralException::new);
+        }
+        // 字符串模板在读取 moreInfo 或异常信息时才格式化，且只格式化一次
+        return new GeneralException(errorCode, throwable, writableStackTrace, moreInfo, params);
+    }
+
+    /**
+     * 更多错误信息
+     * <p>与 StrUtil.format 一致，未指定 moreInfo 时为字符串 "null"
+     */
+    public String getMoreInfo() {
+        String info = moreInfo;
+        if (Objects.isNull(info)) {
+            info = StrUtil.format(moreInfoTemplate, params);
+            moreInfo = info;
+        }
+        return info;
+    }
+
+    @Override
+    public String getMessage() {
+        String msg = message;
+        if (Objects.isNull(msg)) {
+            msg = geneErrorMessage(errorCode, getMoreInfo());
+            message = msg;
+        }
+        return msg;
+    }
+
+    /**
+     * 共享的缓存实例会被多个线程抛出，不允许修改 cause
+     */
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        if (shared) {
+            throw new IllegalStateException("Can't set cause of shared lightweight GeneralException");
+        }
+        return super.initCause(cause);
     }
 
     /**
      * 根据 ErrorCode、moreInfo 构造错误信息
      *
      * @param errorCode 错误信息码
-     * @param moreInfo  更多异常信息
+     * @param moreInfo  格式化后的更多异常信息
      * @return 完整异常信息
      */
-    private static String geneErrorMessage(ErrorCode errorCode, String moreInfo, Object... params) {
+    private static String geneErrorMessage(ErrorCode errorCode, String moreInfo) {
         String message = "";
         // 拼接 [错误码:错误信息]
         if (Objects.nonNull(errorCode)) {
@@ -115,7 +240,7 @@ public class GeneralException extends BaseException {
         }
         // 拼接更多异常信息
         if (Objects.nonNull(moreInfo)) {
-            message += StrUtil.format(moreInfo, params);
+            message += moreInfo;
         }
         return message;
     }
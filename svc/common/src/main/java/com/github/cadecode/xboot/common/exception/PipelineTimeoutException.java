@@ -0,0 +1,29 @@
+package com.github.cadecode.xboot.common.exception;
+
+/**
+ * Pipeline 超时异常
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class PipelineTimeoutException extends ExtensionException {
+
+    public PipelineTimeoutException() {
+    }
+
+    public PipelineTimeoutException(String message, Object... params) {
+        super(message, params);
+    }
+
+    public PipelineTimeoutException(String message, Throwable cause, Object... params) {
+        super(message, cause, params);
+    }
+
+    public PipelineTimeoutException(Throwable cause) {
+        super(cause);
+    }
+
+    public PipelineTimeoutException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace, Object... params) {
+        super(message, cause, enableSuppression, writableStackTrace, params);
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.cadecode.xboot.common.exception;
+
+/**
+ * Plugin 超时异常
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class PluginTimeoutException extends ExtensionException {
+
+    public PluginTimeoutException() {
+    }
+
+    public PluginTimeoutException(String message, Object... params) {
+        super(message, params);
+    }
+
+    public PluginTimeoutException(String message, Throwable cause, Object... params) {
+        super(message, cause, params);
+    }
+
+    public PluginTimeoutException(Throwable cause) {
+        super(cause);
+    }
+
+    public PluginTimeoutException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace, Object... params) {
+        super(message, cause, enableSuppression, writableStackTrace, params);
+    }
+}
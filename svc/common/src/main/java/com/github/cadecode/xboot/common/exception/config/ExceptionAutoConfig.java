@@ -0,0 +1,26 @@
+package com.github.cadecode.xboot.common.exception.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 异常自动配置类
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Configuration
+@EnableConfigurationProperties(ExceptionProperties.class)
+public class ExceptionAutoConfig {
+
+    /**
+     * x-boot.exception.lightweight 为 true 时，在容器生命周期内对所有 ErrorCode 开启轻量模式
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "x-boot.exception", name = "lightweight", havingValue = "true")
+    public LightweightExceptionBinder lightweightExceptionBinder() {
+        return new LightweightExceptionBinder();
+    }
+}
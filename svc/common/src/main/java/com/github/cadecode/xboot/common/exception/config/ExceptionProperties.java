@@ -0,0 +1,20 @@
+package com.github.cadecode.xboot.common.exception.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 异常配置项
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Data
+@ConfigurationProperties("x-boot.exception")
+public class ExceptionProperties {
+
+    /**
+     * 是否对所有 ErrorCode 开启 GeneralException 轻量模式，关闭时只对 ErrorCode.isExpected 为 true 的错误码生效
+     */
+    private boolean lightweight = false;
+}
@@ -0,0 +1,28 @@
+package com.github.cadecode.xboot.common.exception.config;
+
+import com.github.cadecode.xboot.common.exception.GeneralException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+/**
+ * GeneralException 全局轻量模式绑定
+ * <p>容器初始化完成该 Bean 时开启，容器关闭时恢复原有设置，避免同一 JVM 中的多个容器（如测试）互相影响
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class LightweightExceptionBinder implements InitializingBean, DisposableBean {
+
+    private boolean previous;
+
+    @Override
+    public void afterPropertiesSet() {
+        previous = GeneralException.isLightweight();
+        GeneralException.setLightweight(true);
+    }
+
+    @Override
+    public void destroy() {
+        GeneralException.setLightweight(previous);
+    }
+}
@@ -2,15 +2,28 @@ package com.github.cadecode.xboot.common.extension.pipeline;
 
 import com.github.cadecode.xboot.common.exception.ExtensionException;
 import com.github.cadecode.xboot.common.extension.pipeline.filter.PipelineFilter;
-import lombok.Getter;
+import com.github.cadecode.xboot.common.extension.pipeline.guard.PipelineGuardPolicy;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineTracer;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Pipeline 执行器
  * <p>
  * 既是链构建器（appendFilter），也是执行入口（execute）
+ * <p>
+ * appendFilter 之后首次执行时编译不可变的 PipelinePlan，execute 按计划循环执行，构建完成后可被多线程共享
+ * <p>
+ * 指定并行线程池时，相邻的 IndependentFilter 作为一个阶段并行执行
+ * <p>
+ * 执行过程不输出日志，监控数据通过 PipelineMonitorHolder 注册的 PipelineMonitor 上报
+ * <p>
+ * 通过 setGuardPolicies 按业务类型配置超时与熔断
  *
  * @author Cade Li
  * @date 2023/6/20
@@ -18,9 +31,38 @@ import java.util.Objects;
 @Slf4j
 public class PipelineExecutor<A extends PipelineContext> {
 
-    @Getter
-    private DefaultPipelineFilterChain<A> firstChain;
-    private DefaultPipelineFilterChain<A> lastChain;
+    private final List<PipelineFilter<A>> filters = new ArrayList<>();
+
+    /**
+     * 编译后的执行计划，appendFilter 后置空，下次使用时重新编译
+     */
+    private volatile PipelinePlan<A> plan;
+
+    /**
+     * 并行阶段使用的线程池，为 null 时串行执行
+     */
+    private final Executor parallelExecutor;
+
+    /**
+     * 业务类型名称 → 保护策略
+     */
+    private Map<String, PipelineGuardPolicy> guardPolicies = Map.of();
+
+    /**
+     * 执行跟踪器，为 null 时不跟踪
+     */
+    private PipelineTracer tracer;
+
+    public PipelineExecutor() {
+        this(null);
+    }
+
+    /**
+     * @param parallelExecutor 并行阶段使用的线程池，如 asyncExecutor
+     */
+    public PipelineExecutor(Executor parallelExecutor) {
+        this.parallelExecutor = parallelExecutor;
+    }
 
     /**
      * 追加 filter 到链尾
@@ -28,17 +70,50 @@ public class PipelineExecutor<A extends PipelineContext> {
      * @param filter filter 实例
      * @param desc   描述信息
      */
-    public void appendFilter(PipelineFilter<A> filter, String desc) {
-        DefaultPipelineFilterChain<A> newChain = new DefaultPipelineFilterChain<>(null, filter);
-        if (Objects.isNull(firstChain)) {
-            firstChain = newChain;
-            lastChain = firstChain;
-            log.info("Pipeline init first filter: [{}] desc: {}", filter.getClass().getSimpleName(), desc);
+    public synchronized void appendFilter(PipelineFilter<A> filter, String desc) {
+        filters.add(filter);
+        plan = null;
+        if (filters.size() == 1) {
+            log.info("Pipeline init first filter: [{}] desc: {}", PipelinePlan.filterName(filter), desc);
             return;
         }
-        log.info("Pipeline append filter: [{}] desc: {}", filter.getClass().getSimpleName(), desc);
-        lastChain.setNext(newChain);
-        lastChain = newChain;
+        log.info("Pipeline append filter: [{}] desc: {}", PipelinePlan.filterName(filter), desc);
+    }
+
+    /**
+     * 按已追加的 filter 构建链表形式的 filter 链，没有 filter 时返回 null
+     * <p>
+     * 链表直接调用各 filter 的 doFilter，不经过执行计划：不使用 selector 缓存、并行阶段、保护策略与监控探针
+     *
+     * @deprecated 执行请使用 {@link #execute}，查看编译结果请使用 {@link #getPlan}
+     */
+    @Deprecated
+    public synchronized DefaultPipelineFilterChain<A> getFirstChain() {
+        DefaultPipelineFilterChain<A> first = null;
+        for (int i = filters.size() - 1; i >= 0; i--) {
+            first = new DefaultPipelineFilterChain<>(first, filters.get(i));
+        }
+        return first;
+    }
+
+    /**
+     * 设置按业务类型的超时与熔断策略，替换已有配置，熔断状态重置
+     *
+     * @param guardPolicies 业务类型名称 → 保护策略
+     */
+    public synchronized void setGuardPolicies(Map<String, PipelineGuardPolicy> guardPolicies) {
+        this.guardPolicies = Map.copyOf(guardPolicies);
+        plan = null;
+    }
+
+    /**
+     * 设置执行跟踪器，开启后每次执行记录 filter 时间线
+     *
+     * @param tracer 跟踪器，为 null 时关闭
+     */
+    public synchronized void setTracer(PipelineTracer tracer) {
+        this.tracer = tracer;
+        plan = null;
     }
 
     /**
@@ -47,11 +122,64 @@ public class PipelineExecutor<A extends PipelineContext> {
      * @param context pipeline 上下文
      */
     public void execute(A context) {
-        if (firstChain == null) {
+        PipelinePlan<A> currPlan = getPlan();
+        if (currPlan.size() == 0) {
             throw new ExtensionException("Pipeline chain is empty, cannot execute for type '{}'",
                     context != null ? context.getPipelineType().getType() : "null");
         }
-        log.info("Pipeline executing for type '{}'", context.getPipelineType().getType());
-        firstChain.filter(context);
+        currPlan.execute(context);
+    }
+
+    /**
+     * 批量启动责任链执行
+     * <p>
+     * 每个 filter 对整批 context 调用一次 handleBatch，continueChain 为 false 的 context 不再进入后续 filter
+     * <p>
+     * 为 null 或空时直接返回，包含不同业务类型的 context 时抛出 ExtensionException
+     *
+     * @param contexts 同一业务类型的 pipeline 上下文列表
+     */
+    public void executeBatch(List<A> contexts) {
+        if (contexts == null || contexts.isEmpty()) {
+            return;
+        }
+        PipelinePlan<A> currPlan = getPlan();
+        if (currPlan.size() == 0) {
+            throw new ExtensionException("Pipeline chain is empty, cannot execute batch of {} contexts", contexts.size());
+        }
+        currPlan.executeBatch(contexts);
+    }
+
+    /**
+     * 异步启动责任链执行
+     * <p>
+     * AbstractAsyncPipelineFilter 等待期间不阻塞调用线程，continueChain 中断时 future 正常完成，异常通过 future 传递
+     *
+     * @param context pipeline 上下文
+     * @return 执行完成时返回 context
+     */
+    public CompletableFuture<A> executeAsync(A context) {
+        PipelinePlan<A> currPlan = getPlan();
+        if (currPlan.size() == 0) {
+            return CompletableFuture.failedFuture(new ExtensionException("Pipeline chain is empty, cannot execute for type '{}'",
+                    context != null ? context.getPipelineType().getType() : "null"));
+        }
+        return currPlan.executeAsync(context);
+    }
+
+    /**
+     * 获取执行计划，未编译时编译
+     */
+    public PipelinePlan<A> getPlan() {
+        PipelinePlan<A> currPlan = plan;
+        if (currPlan != null) {
+            return currPlan;
+        }
+        synchronized (this) {
+            if (plan == null) {
+                plan = new PipelinePlan<>(filters, parallelExecutor, guardPolicies, tracer);
+            }
+            return plan;
+        }
     }
 }
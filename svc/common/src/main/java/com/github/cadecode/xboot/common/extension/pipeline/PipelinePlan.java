@@ -0,0 +1,956 @@
+package com.github.cadecode.xboot.common.extension.pipeline;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.exception.ExtensionException;
+import com.github.cadecode.xboot.common.exception.PipelineTimeoutException;
+import com.github.cadecode.xboot.common.extension.pipeline.annotation.IndependentFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.filter.AbstractAsyncPipelineFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.filter.AbstractPipelineFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.filter.PipelineFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.guard.FilterCircuitBreaker;
+import com.github.cadecode.xboot.common.extension.pipeline.guard.FilterGuard;
+import com.github.cadecode.xboot.common.extension.pipeline.guard.PipelineGuardPolicy;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineMonitor;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineMonitorHolder;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineProbe;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineTracer;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelector;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorCache;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Pipeline 执行计划
+ * <p>
+ * 由 PipelineExecutor 在 appendFilter 之后首次使用时编译，filter 以扁平数组保存，创建后不可变，可被多线程共享。
+ * 执行时以循环代替 filter/next 递归，链的长度不再影响调用栈深度，串行执行过程只为自定义 doFilter 的 filter 创建 chain 节点
+ * <p>
+ * 未重写 doFilter 的 AbstractPipelineFilter 由计划直接调度：Selector 匹配 → handle() → continueChain 判断；
+ * 其余 PipelineFilter 仍调用 doFilter，其 chain.next() 回到计划继续执行后续 filter
+ * <p>
+ * 不可变 selector 的匹配结果按实例或类型缓存为 filter 下标位图（见 FilterSelectorCache），同一 selector 只在首次执行时调用 matchFilter
+ * <p>
+ * 配置了并行线程池时，相邻的 IndependentFilter 编译为一个并行阶段，阶段作为整体判断 continueChain
+ * <p>
+ * executeAsync 异步执行计划，AbstractAsyncPipelineFilter 等待 I/O 期间不占用线程；
+ * executeBatch 按 filter 逐个处理整批 context，便于 filter 批量查询
+ * <p>
+ * 执行过程不输出日志，耗时、跳过、中断等数据通过 PipelineMonitorHolder 注册的监控探针上报，未注册时不计时
+ * <p>
+ * 业务类型配置了 PipelineGuardPolicy 时，每个 filter 受超时与熔断保护，pipeline 在每个 filter 执行前检查截止时间，
+ * 自定义 doFilter 的 chain.next 沿用本次执行的截止时间；并行阶段与自定义 doFilter 的 filter 只检查 pipeline 截止时间
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public final class PipelinePlan<A extends PipelineContext> {
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private static final FilterGuard NO_GUARD = new FilterGuard(new PipelineGuardPolicy(), 0);
+
+    private final PipelineFilter<A>[] filters;
+
+    /**
+     * 可由计划直接调度的模板 filter，自定义 doFilter 的位置为 null
+     */
+    private final AbstractPipelineFilter<A>[] templates;
+
+    private final String[] filterNames;
+
+    private final List<String> filterNameList;
+
+    /**
+     * 以并行阶段起点为下标，记录阶段的结束下标（不含），其余位置为 0
+     */
+    private final int[] stageEnds;
+
+    private final FilterSelectorCache selectorCache;
+
+    /**
+     * 并行阶段使用的线程池，为 null 时所有 filter 串行执行
+     */
+    private final Executor parallelExecutor;
+
+    /**
+     * 业务类型名称 → 保护策略
+     */
+    private final Map<String, PipelineGuardPolicy> guardPolicies;
+
+    /**
+     * 按业务类型缓存的保护状态，未配置策略的类型为 NO_GUARD
+     */
+    private final ConcurrentHashMap<ExtensionType, FilterGuard> guards = new ConcurrentHashMap<>();
+
+    /**
+     * 执行跟踪器，为 null 时不跟踪
+     */
+    private final PipelineTracer tracer;
+
+    /**
+     * 按业务类型缓存的探针，监控变更后整体替换
+     */
+    private volatile ProbeTable probeTable = new ProbeTable(PipelineMonitor.NOOP, new ConcurrentHashMap<>());
+
+    @SuppressWarnings("unchecked")
+    PipelinePlan(List<PipelineFilter<A>> filterList, Executor parallelExecutor,
+                 Map<String, PipelineGuardPolicy> guardPolicies, PipelineTracer tracer) {
+        int size = filterList.size();
+        this.filters = filterList.toArray(new PipelineFilter[0]);
+        this.templates = new AbstractPipelineFilter[size];
+        this.filterNames = new String[size];
+        this.stageEnds = new int[size];
+        this.parallelExecutor = parallelExecutor;
+        this.guardPolicies = guardPolicies;
+        this.tracer = tracer;
+        for (int i = 0; i < size; i++) {
+            PipelineFilter<A> filter = filters[i];
+            filterNames[i] = filterName(filter);
+            if (filter instanceof AbstractPipelineFilter<A> template && !overridesDoFilter(filter)) {
+                templates[i] = template;
+            }
+        }
+        if (parallelExecutor != null) {
+            compileStages();
+        }
+        this.filterNameList = List.of(filterNames);
+        this.selectorCache = new FilterSelectorCache(filterNameList);
+    }
+
+    /**
+     * filter 数量
+     */
+    public int size() {
+        return filters.length;
+    }
+
+    /**
+     * 按执行顺序排列的 filter 名称
+     */
+    public List<String> getFilterNames() {
+        return filterNameList;
+    }
+
+    /**
+     * 预先解析 selector 并缓存匹配结果，在启动时调用，避免首个请求承担解析开销
+     *
+     * @param selector FilterSelector
+     */
+    public void prepare(FilterSelector selector) {
+        selectorCache.resolve(selector);
+    }
+
+    /**
+     * 执行计划
+     *
+     * @param context pipeline 上下文
+     */
+    public void execute(A context) {
+        ExtensionType type = context.getPipelineType();
+        PipelineProbe probe = sampleProbe(type);
+        FilterGuard guard = guard(type);
+        if (!probe.isEnabled() && guard == null) {
+            run(context, 0, probe, null, 0L);
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = guard != null ? guard.deadline(start) : 0L;
+        if (!probe.isEnabled()) {
+            run(context, 0, probe, guard, deadline);
+            return;
+        }
+        int depth = -1;
+        Throwable error = null;
+        try {
+            depth = run(context, 0, probe, guard, deadline);
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            probe.onComplete(depth, System.nanoTime() - start, error);
+        }
+    }
+
+    /**
+     * 异步执行计划
+     * <p>
+     * 同步 filter 在当前线程执行，遇到未完成的 AbstractAsyncPipelineFilter 时立即返回，
+     * 后续 filter 在其完成的线程上继续执行；continueChain 为 false 时正常完成，异常以失败的 future 返回
+     *
+     * @param context pipeline 上下文
+     * @return 完成时返回 context
+     */
+    public CompletableFuture<A> executeAsync(A context) {
+        ExtensionType type = context.getPipelineType();
+        PipelineProbe probe = sampleProbe(type);
+        FilterGuard guard = guard(type);
+        long start = probe.isEnabled() || guard != null ? System.nanoTime() : 0L;
+        long deadline = guard != null ? guard.deadline(start) : 0L;
+        CompletableFuture<Void> future;
+        try {
+            future = runAsync(context, 0, probe, guard, deadline);
+        } catch (Throwable e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        if (probe.isEnabled()) {
+            future = future.whenComplete((v, e) -> probe.onComplete(-1, System.nanoTime() - start,
+                    e instanceof CompletionException && e.getCause() != null ? e.getCause() : e));
+        }
+        return future.thenApply(v -> context);
+    }
+
+    /**
+     * 批量执行计划
+     * <p>
+     * 每个 filter 对整批 context 执行一次 handleBatch 后再进入下一个 filter，selector 只对每个 context 解析一次；
+     * continueChain 为 false 的 context 不再进入后续 filter，不影响其他 context。
+     * 遇到自定义 doFilter 的 filter 时，剩余 context 从该 filter 开始逐个执行
+     *
+     * @param contexts 同一业务类型的 pipeline 上下文列表，不能为空
+     */
+    public void executeBatch(List<A> contexts) {
+        ExtensionType type = contexts.get(0).getPipelineType();
+        // 探针与保护策略按业务类型选择，整批必须属于同一类型
+        for (A context : contexts) {
+            if (context.getPipelineType() != type) {
+                throw new ExtensionException("Pipeline batch must share one type, found '{}' and '{}'",
+                        type.getType(), context.getPipelineType().getType());
+            }
+        }
+        PipelineProbe probe = sampleProbe(type);
+        FilterGuard guard = guard(type);
+        if (!probe.isEnabled()) {
+            runBatch(contexts, probe, guard);
+            return;
+        }
+        long start = System.nanoTime();
+        int depth = -1;
+        Throwable error = null;
+        try {
+            depth = runBatch(contexts, probe, guard);
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            probe.onComplete(depth, System.nanoTime() - start, error);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int runBatch(List<A> contexts, PipelineProbe probe, FilterGuard guard) {
+        boolean enabled = probe.isEnabled();
+        long deadline = guard != null ? guard.deadline(System.nanoTime()) : 0L;
+        int count = contexts.size();
+        A[] batch = (A[]) contexts.toArray(new PipelineContext[0]);
+        FilterSelector[] selectors = new FilterSelector[count];
+        BitSet[] masks = new BitSet[count];
+        for (int k = 0; k < count; k++) {
+            selectors[k] = batch[k].getFilterSelector();
+            masks[k] = selectorCache.resolve(selectors[k]);
+        }
+        int depth = 0;
+        for (int i = 0; i < filters.length && count > 0; i++) {
+            depth = i + 1;
+            checkDeadline(batch[0], i, guard, deadline);
+            AbstractPipelineFilter<A> template = templates[i];
+            if (template == null) {
+                for (int k = 0; k < count; k++) {
+                    run(batch[k], i, probe, guard, deadline);
+                }
+                return depth;
+            }
+            int stageEnd = stageEnds[i];
+            if (stageEnd > 0) {
+                for (int k = 0; k < count; k++) {
+                    joinStage(batch[k], forkStage(batch[k], selectors[k], masks[k], i, stageEnd, probe));
+                }
+                i = stageEnd - 1;
+                depth = stageEnd;
+            } else {
+                // 每个 filter 使用新的列表，filter 保留列表引用时不受后续 filter 影响
+                List<A> matched = new ArrayList<>(count);
+                for (int k = 0; k < count; k++) {
+                    if (matches(selectors[k], masks[k], i)) {
+                        matched.add(batch[k]);
+                    } else if (enabled) {
+                        probe.onSkip(i);
+                    }
+                }
+                if (!matched.isEmpty() && guard != null) {
+                    guardedHandleBatch(template, Collections.unmodifiableList(matched), i, probe, guard);
+                } else if (!matched.isEmpty()) {
+                    handleBatch(template, Collections.unmodifiableList(matched), i, probe);
+                }
+            }
+            // 移除中断的 context，保持剩余 context 的原有顺序
+            int remain = 0;
+            for (int k = 0; k < count; k++) {
+                if (batch[k].continueChain()) {
+                    batch[remain] = batch[k];
+                    selectors[remain] = selectors[k];
+                    masks[remain] = masks[k];
+                    remain++;
+                } else if (enabled) {
+                    probe.onInterrupt(i);
+                }
+            }
+            count = remain;
+        }
+        return depth;
+    }
+
+    /**
+     * 从指定位置开始循环执行 filter
+     *
+     * @return 到达的 filter 数量，自定义 doFilter 之后的 filter 不计入
+     */
+    private int run(A context, int from, PipelineProbe probe, FilterGuard guard, long deadline) {
+        boolean enabled = probe.isEnabled();
+        FilterSelector selector = context.getFilterSelector();
+        BitSet mask = selectorCache.resolve(selector);
+        for (int i = from; i < filters.length; i++) {
+            checkDeadline(context, i, guard, deadline);
+            AbstractPipelineFilter<A> template = templates[i];
+            if (template == null) {
+                // 自定义 doFilter 的 filter 自行决定是否调用 chain.next
+                filters[i].doFilter(context, new PlanChain(i, probe, guard, deadline));
+                return i + 1;
+            }
+            int stageEnd = stageEnds[i];
+            if (stageEnd > 0) {
+                joinStage(context, forkStage(context, selector, mask, i, stageEnd, probe));
+                i = stageEnd - 1;
+            } else if (matches(selector, mask, i)) {
+                if (guard != null) {
+                    guardedHandle(template, context, i, probe, guard, deadline);
+                } else if (enabled) {
+                    handle(template, context, i, probe);
+                } else {
+                    template.handle(context);
+                }
+            } else if (enabled) {
+                probe.onSkip(i);
+            }
+            if (!context.continueChain()) {
+                if (enabled) {
+                    probe.onInterrupt(i);
+                }
+                return i + 1;
+            }
+        }
+        return filters.length;
+    }
+
+    /**
+     * 从指定位置开始异步执行 filter，已完成的 future 直接继续循环，不增加调用栈深度
+     */
+    private CompletableFuture<Void> runAsync(A context, int from, PipelineProbe probe, FilterGuard guard, long deadline) {
+        boolean enabled = probe.isEnabled();
+        FilterSelector selector = context.getFilterSelector();
+        BitSet mask = selectorCache.resolve(selector);
+        for (int i = from; i < filters.length; i++) {
+            checkDeadline(context, i, guard, deadline);
+            AbstractPipelineFilter<A> template = templates[i];
+            if (template == null) {
+                AsyncPlanChain chain = new AsyncPlanChain(i, probe, guard, deadline);
+                filters[i].doFilter(context, chain);
+                return chain.remaining;
+            }
+            CompletableFuture<Void> pending = null;
+            int stageEnd = stageEnds[i];
+            if (stageEnd > 0) {
+                CompletableFuture<Consumer<A>>[] futures = forkStage(context, selector, mask, i, stageEnd, probe);
+                // 全部结束后按 filter 顺序合并或抛出第一个异常，与同步执行一致
+                pending = CompletableFuture.allOf(futures).handle((v, e) -> {
+                    joinStage(context, futures);
+                    return null;
+                });
+                i = stageEnd - 1;
+            } else if (matches(selector, mask, i)) {
+                if (template instanceof AbstractAsyncPipelineFilter<A> asyncTemplate) {
+                    pending = guard != null
+                            ? guardedHandleAsync(asyncTemplate, context, i, probe, guard, deadline)
+                            : handleAsync(asyncTemplate, context, i, probe);
+                } else if (guard != null) {
+                    guardedHandle(template, context, i, probe, guard, deadline);
+                } else if (enabled) {
+                    handle(template, context, i, probe);
+                } else {
+                    template.handle(context);
+                }
+            } else if (enabled) {
+                probe.onSkip(i);
+            }
+            if (pending != null && (!pending.isDone() || pending.isCompletedExceptionally())) {
+                int index = i;
+                return pending.thenCompose(v -> resumeAsync(context, index, probe, guard, deadline));
+            }
+            if (!context.continueChain()) {
+                if (enabled) {
+                    probe.onInterrupt(i);
+                }
+                return COMPLETED;
+            }
+        }
+        return COMPLETED;
+    }
+
+    private CompletableFuture<Void> resumeAsync(A context, int index, PipelineProbe probe, FilterGuard guard, long deadline) {
+        if (!context.continueChain()) {
+            if (probe.isEnabled()) {
+                probe.onInterrupt(index);
+            }
+            return COMPLETED;
+        }
+        return runAsync(context, index + 1, probe, guard, deadline);
+    }
+
+    private void handle(AbstractPipelineFilter<A> template, A context, int index, PipelineProbe probe) {
+        long start = System.nanoTime();
+        try {
+            template.handle(context);
+        } finally {
+            probe.onFilter(index, System.nanoTime() - start);
+        }
+    }
+
+    private void handleBatch(AbstractPipelineFilter<A> template, List<A> contexts, int index, PipelineProbe probe) {
+        if (!probe.isEnabled()) {
+            template.handleBatch(contexts);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            template.handleBatch(contexts);
+        } finally {
+            probe.onFilter(index, System.nanoTime() - start);
+        }
+    }
+
+    private CompletableFuture<Void> handleAsync(AbstractAsyncPipelineFilter<A> template, A context, int index, PipelineProbe probe) {
+        if (!probe.isEnabled()) {
+            return template.handleAsync(context).toCompletableFuture();
+        }
+        long start = System.nanoTime();
+        CompletableFuture<Void> future;
+        try {
+            future = template.handleAsync(context).toCompletableFuture();
+        } catch (Throwable e) {
+            probe.onFilter(index, System.nanoTime() - start);
+            throw e;
+        }
+        return future.whenComplete((v, e) -> probe.onFilter(index, System.nanoTime() - start));
+    }
+
+    /**
+     * 在保护策略下执行 filter：熔断时直接降级，否则在调用线程中执行并在结束后判断耗时；
+     * 显式开启 interruptOnTimeout 时在线程池中执行并限时等待，超时后 context 交给仍在运行的 filter 线程
+     */
+    private void guardedHandle(AbstractPipelineFilter<A> template, A context, int index, PipelineProbe probe,
+                               FilterGuard guard, long deadline) {
+        long start = System.nanoTime();
+        if (!guard.tryAcquire(index, start)) {
+            fallback(template, context, index, guard, circuitOpen(context, index));
+            return;
+        }
+        long timeout = guard.filterTimeout(start, deadline);
+        RuntimeException failure = null;
+        try {
+            if (guard.isInterruptOnTimeout() && parallelExecutor != null) {
+                handleWithTimeout(template, context, index, timeout);
+            } else {
+                template.handle(context);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        } catch (Error e) {
+            onError(index, probe, guard, start);
+            throw e;
+        }
+        long end = System.nanoTime();
+        long nanos = end - start;
+        if (probe.isEnabled()) {
+            probe.onFilter(index, nanos);
+        }
+        if (failure == null && timeout > 0L && nanos > timeout) {
+            failure = filterTimeout(context, index, timeout);
+        }
+        if (failure == null) {
+            guard.onComplete(index, end, nanos);
+            return;
+        }
+        guard.onFailure(index, end);
+        fallback(template, context, index, guard, failure);
+    }
+
+    private void handleWithTimeout(AbstractPipelineFilter<A> template, A context, int index, long timeout) {
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            template.handle(context);
+            return null;
+        });
+        try {
+            parallelExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+        try {
+            task.get(timeout, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 中断 filter 线程，filter 不响应中断时仍可能继续运行
+            task.cancel(true);
+            throw filterTimeout(context, index, timeout);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ExtensionException("Pipeline filter [{}] interrupted", e, filterNames[index]);
+        }
+    }
+
+    private CompletableFuture<Void> guardedHandleAsync(AbstractAsyncPipelineFilter<A> template, A context, int index,
+                                                       PipelineProbe probe, FilterGuard guard, long deadline) {
+        long start = System.nanoTime();
+        if (!guard.tryAcquire(index, start)) {
+            fallback(template, context, index, guard, circuitOpen(context, index));
+            return null;
+        }
+        long timeout = guard.filterTimeout(start, deadline);
+        CompletableFuture<Void> future;
+        try {
+            future = template.handleAsync(context).toCompletableFuture().copy();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        } catch (Error e) {
+            onError(index, probe, guard, start);
+            throw e;
+        }
+        if (timeout > 0L) {
+            future.orTimeout(timeout, TimeUnit.NANOSECONDS);
+        }
+        return future.handle((v, e) -> {
+            long end = System.nanoTime();
+            long nanos = end - start;
+            if (probe.isEnabled()) {
+                probe.onFilter(index, nanos);
+            }
+            if (e == null) {
+                guard.onComplete(index, end, nanos);
+                return null;
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                cause = filterTimeout(context, index, timeout);
+            }
+            guard.onFailure(index, end);
+            fallback(template, context, index, guard, cause);
+            return null;
+        });
+    }
+
+    private void guardedHandleBatch(AbstractPipelineFilter<A> template, List<A> contexts, int index,
+                                    PipelineProbe probe, FilterGuard guard) {
+        long start = System.nanoTime();
+        if (!guard.tryAcquire(index, start)) {
+            ExtensionException open = circuitOpen(contexts.get(0), index);
+            contexts.forEach(context -> fallback(template, context, index, guard, open));
+            return;
+        }
+        RuntimeException failure = null;
+        try {
+            template.handleBatch(contexts);
+        } catch (RuntimeException e) {
+            failure = e;
+        } catch (Error e) {
+            onError(index, probe, guard, start);
+            throw e;
+        }
+        long end = System.nanoTime();
+        if (probe.isEnabled()) {
+            probe.onFilter(index, end - start);
+        }
+        if (failure == null) {
+            guard.onComplete(index, end, end - start);
+            return;
+        }
+        guard.onFailure(index, end);
+        RuntimeException cause = failure;
+        contexts.forEach(context -> fallback(template, context, index, guard, cause));
+    }
+
+    /**
+     * filter 抛出 Error 时不降级，只记录失败，由调用方直接抛出；半开状态的试探调用因此结束，熔断器不会一直拒绝调用
+     */
+    private void onError(int index, PipelineProbe probe, FilterGuard guard, long start) {
+        long end = System.nanoTime();
+        if (probe.isEnabled()) {
+            probe.onFilter(index, end - start);
+        }
+        guard.onFailure(index, end);
+    }
+
+    /**
+     * 失败或熔断时按策略降级：SKIP 调用 filter 的 fallback 后继续，FAIL 抛出异常
+     */
+    private void fallback(AbstractPipelineFilter<A> template, A context, int index, FilterGuard guard, Throwable cause) {
+        if (!guard.isSkipOnFailure()) {
+            throw propagate(cause);
+        }
+        template.fallback(context, cause);
+    }
+
+    private void checkDeadline(A context, int index, FilterGuard guard, long deadline) {
+        if (deadline != 0L && guard.isExpired(System.nanoTime(), deadline)) {
+            throw new PipelineTimeoutException("Pipeline timeout before filter [{}] for type '{}'",
+                    filterNames[index], context.getPipelineType().getType());
+        }
+    }
+
+    private PipelineTimeoutException filterTimeout(A context, int index, long timeout) {
+        return new PipelineTimeoutException("Pipeline filter [{}] timeout after {}ms for type '{}'",
+                filterNames[index], TimeUnit.NANOSECONDS.toMillis(timeout), context.getPipelineType().getType());
+    }
+
+    private ExtensionException circuitOpen(A context, int index) {
+        return new ExtensionException("Pipeline filter [{}] circuit open for type '{}'",
+                filterNames[index], context.getPipelineType().getType());
+    }
+
+    /**
+     * 获取业务类型对应的保护状态，未配置策略时返回 null
+     */
+    private FilterGuard guard(ExtensionType type) {
+        if (guardPolicies.isEmpty()) {
+            return null;
+        }
+        FilterGuard guard = guards.get(type);
+        if (guard == null) {
+            guard = guards.computeIfAbsent(type, t -> {
+                PipelineGuardPolicy policy = guardPolicies.get(t.getType());
+                return policy == null ? NO_GUARD : new FilterGuard(policy, filters.length);
+            });
+        }
+        return guard == NO_GUARD ? null : guard;
+    }
+
+    /**
+     * 当前业务类型下 filter 的熔断器，未配置策略时返回 null
+     *
+     * @param type  业务类型
+     * @param index filter 下标
+     */
+    public FilterCircuitBreaker getCircuitBreaker(ExtensionType type, int index) {
+        FilterGuard guard = guard(type);
+        return guard == null ? null : guard.getBreaker(index);
+    }
+
+    /**
+     * 并发 fork 并行阶段中匹配的 filter，返回按 filter 顺序排列的 future
+     * <p>
+     * 除最后一个外提交到线程池，调用线程执行最后一个后，继续执行尚未被线程池领取的 filter，
+     * 返回时只剩已在线程池中运行的 filter，线程池饱和或 execute 本身运行在该线程池中时不会互相等待
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Consumer<A>>[] forkStage(A context, FilterSelector selector, BitSet mask,
+                                                       int start, int end, PipelineProbe probe) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (matches(selector, mask, i)) {
+                count++;
+            } else if (probe.isEnabled()) {
+                probe.onSkip(i);
+            }
+        }
+        StageTask<A>[] tasks = new StageTask[count];
+        CompletableFuture<Consumer<A>>[] futures = new CompletableFuture[count];
+        int k = 0;
+        for (int i = start; i < end; i++) {
+            if (!matches(selector, mask, i)) {
+                continue;
+            }
+            StageTask<A> task = new StageTask<>(this, context, i, probe);
+            tasks[k] = task;
+            futures[k] = task.result;
+            if (++k < count) {
+                try {
+                    parallelExecutor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    // 线程池拒绝时由调用线程执行
+                }
+            }
+        }
+        for (int j = count - 1; j >= 0; j--) {
+            tasks[j].run();
+        }
+        return futures;
+    }
+
+    /**
+     * 等待并行阶段结束，在调用线程上按 filter 顺序执行合并动作
+     * <p>
+     * 所有 filter 结束后才抛出第一个异常，避免阶段结束后仍有线程读写 context
+     */
+    @SuppressWarnings("unchecked")
+    private void joinStage(A context, CompletableFuture<Consumer<A>>[] futures) {
+        Throwable failure = null;
+        Consumer<A>[] merges = new Consumer[futures.length];
+        for (int k = 0; k < futures.length; k++) {
+            try {
+                merges[k] = futures[k].join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() != null ? e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw propagate(failure);
+        }
+        for (Consumer<A> merge : merges) {
+            if (merge != null) {
+                merge.accept(context);
+            }
+        }
+    }
+
+    private Consumer<A> fork(A context, int index, PipelineProbe probe) {
+        if (!probe.isEnabled()) {
+            return templates[index].fork(context);
+        }
+        long start = System.nanoTime();
+        try {
+            return templates[index].fork(context);
+        } finally {
+            probe.onFilter(index, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 获取业务类型对应的探针，监控变更后重新创建
+     */
+    private PipelineProbe probe(ExtensionType type) {
+        PipelineMonitor monitor = PipelineMonitorHolder.getMonitor();
+        ProbeTable table = probeTable;
+        if (table.monitor() != monitor) {
+            table = new ProbeTable(monitor, new ConcurrentHashMap<>());
+            probeTable = table;
+        }
+        PipelineProbe probe = table.probes().get(type);
+        if (probe == null) {
+            probe = table.probes().computeIfAbsent(type, t -> monitor.probe(t, filterNameList));
+        }
+        return probe;
+    }
+
+    /**
+     * 获取探针，开启跟踪时领取本次执行的时间线，并按采样比例包装 trace 日志，只在每次执行的入口调用
+     */
+    private PipelineProbe sampleProbe(ExtensionType type) {
+        PipelineProbe probe = probe(type);
+        if (tracer != null) {
+            probe = tracer.begin(probe, type, filterNameList);
+        }
+        return PipelineMonitorHolder.sample(probe, type, filterNameList);
+    }
+
+    private boolean matches(FilterSelector selector, BitSet mask, int index) {
+        return mask != null ? mask.get(index) : selector.matchFilter(filterNames[index]);
+    }
+
+    /**
+     * 将相邻的 IndependentFilter 编译为并行阶段，至少两个 filter 才组成阶段
+     */
+    private void compileStages() {
+        int i = 0;
+        while (i < filters.length) {
+            int end = i;
+            while (end < filters.length && isIndependent(end)) {
+                end++;
+            }
+            if (end - i >= 2) {
+                stageEnds[i] = end;
+            }
+            i = Math.max(end, i + 1);
+        }
+    }
+
+    private boolean isIndependent(int index) {
+        if (templates[index] == null
+                || !AnnotatedElementUtils.hasAnnotation(filterClass(filters[index]), IndependentFilter.class)) {
+            return false;
+        }
+        if (!overrides(filters[index], "fork", PipelineContext.class)) {
+            throw new ExtensionException("IndependentFilter [{}] must override fork to run in a parallel stage",
+                    filterNames[index]);
+        }
+        return true;
+    }
+
+    /**
+     * filter 的用户类，Spring AOP 代理（含 CGLIB 子类）返回被代理的类
+     */
+    static Class<?> filterClass(PipelineFilter<?> filter) {
+        return ClassUtils.getUserClass(AopUtils.getTargetClass(filter));
+    }
+
+    /**
+     * filter 名称，即用户类的简单类名，filter-selectors 按此名称引用 filter
+     */
+    static String filterName(PipelineFilter<?> filter) {
+        return filterClass(filter).getSimpleName();
+    }
+
+    /**
+     * 判断 filter 是否重写了 AbstractPipelineFilter 的 doFilter 模板
+     */
+    private static boolean overridesDoFilter(PipelineFilter<?> filter) {
+        return overrides(filter, "doFilter", PipelineContext.class, PipelineFilterChain.class);
+    }
+
+    /**
+     * 判断 filter 是否重写了 AbstractPipelineFilter 的方法
+     */
+    private static boolean overrides(PipelineFilter<?> filter, String name, Class<?>... parameterTypes) {
+        try {
+            // 代理类会重写所有方法，按用户类判断
+            return filterClass(filter).getMethod(name, parameterTypes).getDeclaringClass() != AbstractPipelineFilter.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 运行时异常原样抛出，受检异常包装为 ExtensionException
+     */
+    static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException re) {
+            return re;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new ExtensionException("Pipeline filter execute fail", e);
+    }
+
+    private record ProbeTable(PipelineMonitor monitor, ConcurrentHashMap<ExtensionType, PipelineProbe> probes) {
+    }
+
+    /**
+     * 并行阶段中的 filter 任务，由线程池或调用线程中先领取的一方执行一次
+     */
+    private static final class StageTask<A extends PipelineContext> extends AtomicBoolean implements Runnable {
+
+        private final PipelinePlan<A> plan;
+
+        private final A context;
+
+        private final int index;
+
+        private final PipelineProbe probe;
+
+        private final CompletableFuture<Consumer<A>> result = new CompletableFuture<>();
+
+        private StageTask(PipelinePlan<A> plan, A context, int index, PipelineProbe probe) {
+            this.plan = plan;
+            this.context = context;
+            this.index = index;
+            this.probe = probe;
+        }
+
+        @Override
+        public void run() {
+            if (!compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(plan.fork(context, index, probe));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 异步执行时的 chain 节点，记录后续 filter 的执行结果
+     * <p>
+     * 自定义 doFilter 在 next 返回后，后续的异步 filter 可能尚未完成
+     */
+    private final class AsyncPlanChain implements PipelineFilterChain<A> {
+
+        private final int index;
+
+        private final PipelineProbe probe;
+
+        private final FilterGuard guard;
+
+        private final long deadline;
+
+        private CompletableFuture<Void> remaining = COMPLETED;
+
+        private AsyncPlanChain(int index, PipelineProbe probe, FilterGuard guard, long deadline) {
+            this.index = index;
+            this.probe = probe;
+            this.guard = guard;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void filter(A context) {
+            remaining = runAsync(context, index, probe, guard, deadline);
+        }
+
+        @Override
+        public void next(A context) {
+            remaining = runAsync(context, index + 1, probe, guard, deadline);
+        }
+    }
+
+    /**
+     * 计划内的 chain 节点，next 回到计划循环，沿用本次执行的探针、保护状态与截止时间
+     */
+    private final class PlanChain implements PipelineFilterChain<A> {
+
+        private final int index;
+
+        private final PipelineProbe probe;
+
+        private final FilterGuard guard;
+
+        private final long deadline;
+
+        private PlanChain(int index, PipelineProbe probe, FilterGuard guard, long deadline) {
+            this.index = index;
+            this.probe = probe;
+            this.guard = guard;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void filter(A context) {
+            run(context, index, probe, guard, deadline);
+        }
+
+        @Override
+        public void next(A context) {
+            run(context, index + 1, probe, guard, deadline);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.github.cadecode.xboot.common.extension.pipeline;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.exception.ExtensionException;
+import com.github.cadecode.xboot.common.extension.pipeline.filter.PipelineFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.guard.PipelineGuardPolicy;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineTracer;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelector;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Pipeline 注册表
+ * <p>
+ * 由 PipelineAutoConfig 在启动时创建：按上下文类型对 filter bean 分组，
+ * 每个上下文类型构建一个 PipelineExecutor 并编译执行计划，校验 filter-selectors 中的 filter 名称并预热 selector 缓存。
+ * 创建完成后不再变化，可被多线程共享
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Slf4j
+public class PipelineRegistry {
+
+    private static final Set<String> SWITCH_VALUES = Set.of("on", "off");
+
+    /**
+     * 上下文类型 → 执行器
+     */
+    private final Map<Class<?>, PipelineExecutor<?>> executors;
+
+    /**
+     * 执行时的上下文类型 → 按父类及接口查找到的执行器
+     */
+    private final Map<Class<?>, PipelineExecutor<?>> resolvedExecutors = new ConcurrentHashMap<>();
+
+    private final Set<String> filterNames;
+
+    private final boolean failOnUnknownFilter;
+
+    private final FilterSelectorRegistry selectorRegistry;
+
+    /**
+     * @param filters             已排序的 filter
+     * @param filterSelectors     filter-selectors 配置来源
+     * @param parallelExecutor    并行阶段使用的线程池，可为 null
+     * @param failOnUnknownFilter filter-selectors 中存在未知 filter 名称时是否抛出异常
+     */
+    public PipelineRegistry(List<? extends PipelineFilter<?>> filters,
+                            Supplier<Map<String, List<String>>> filterSelectors,
+                            Executor parallelExecutor, boolean failOnUnknownFilter) {
+        this(filters, filterSelectors, parallelExecutor, failOnUnknownFilter, Map.of());
+    }
+
+    /**
+     * @param filters             已排序的 filter
+     * @param filterSelectors     filter-selectors 配置来源
+     * @param parallelExecutor    并行阶段及 filter 超时使用的线程池，可为 null
+     * @param failOnUnknownFilter filter-selectors 中存在未知 filter 名称时是否抛出异常
+     * @param guardPolicies       业务类型名称 → 超时与熔断策略
+     */
+    public PipelineRegistry(List<? extends PipelineFilter<?>> filters,
+                            Supplier<Map<String, List<String>>> filterSelectors,
+                            Executor parallelExecutor, boolean failOnUnknownFilter,
+                            Map<String, PipelineGuardPolicy> guardPolicies) {
+        Map<Class<?>, PipelineExecutor<?>> executorMap = new LinkedHashMap<>();
+        // filter 名称 → filter 类全名，filter-selectors 按简单类名引用 filter，不同包下的同名 filter 无法区分
+        Map<String, String> names = new HashMap<>();
+        for (PipelineFilter<?> filter : filters) {
+            Class<?> contextClass = resolveContextClass(filter);
+            appendFilter(executorMap.computeIfAbsent(contextClass, k -> new PipelineExecutor<>(parallelExecutor)), filter);
+            String name = PipelinePlan.filterName(filter);
+            String className = PipelinePlan.filterClass(filter).getName();
+            String existing = names.putIfAbsent(name, className);
+            if (existing != null && !existing.equals(className)) {
+                throw new ExtensionException("Pipeline filters {} and {} share the name '{}'",
+                        existing, className, name);
+            }
+        }
+        executorMap.values().forEach(executor -> executor.setGuardPolicies(guardPolicies));
+        this.executors = Map.copyOf(executorMap);
+        this.filterNames = Set.copyOf(names.keySet());
+        this.failOnUnknownFilter = failOnUnknownFilter;
+        this.selectorRegistry = new FilterSelectorRegistry(filterSelectors, this::validate);
+        prepare();
+        executorMap.forEach((contextClass, executor) -> log.info("Pipeline registered for {}: {}",
+                contextClass.getSimpleName(), executor.getPlan().getFilterNames()));
+    }
+
+    /**
+     * 获取上下文类型对应的执行器，未找到时先按父类、再按实现的接口查找，查找结果按上下文类型缓存
+     *
+     * @param contextClass 上下文类型
+     * @throws ExtensionException 如果未找到
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends PipelineContext> PipelineExecutor<A> getExecutor(Class<A> contextClass) {
+        PipelineExecutor<?> executor = resolvedExecutors.computeIfAbsent(contextClass, this::findExecutor);
+        if (executor == null) {
+            throw new ExtensionException("Pipeline not found for context {}", contextClass.getName());
+        }
+        return (PipelineExecutor<A>) executor;
+    }
+
+    private PipelineExecutor<?> findExecutor(Class<?> contextClass) {
+        for (Class<?> clazz = contextClass; clazz != null; clazz = clazz.getSuperclass()) {
+            PipelineExecutor<?> executor = executors.get(clazz);
+            if (executor != null) {
+                return executor;
+            }
+        }
+        for (Class<?> clazz : ClassUtils.getAllInterfacesForClassAsSet(contextClass)) {
+            PipelineExecutor<?> executor = executors.get(clazz);
+            if (executor != null) {
+                return executor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取业务类型对应的 selector
+     *
+     * @param type 业务类型
+     * @throws ExtensionException 如果 type 未在配置中找到
+     */
+    public FilterSelector getSelector(ExtensionType type) {
+        return selectorRegistry.getSelector(type);
+    }
+
+    /**
+     * 按上下文类型执行 pipeline
+     *
+     * @param context pipeline 上下文
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends PipelineContext> void execute(A context) {
+        getExecutor((Class<A>) context.getClass()).execute(context);
+    }
+
+    /**
+     * 已注册的上下文类型及其 filter 名称
+     */
+    public Map<Class<?>, List<String>> getPipelines() {
+        Map<Class<?>, List<String>> result = new LinkedHashMap<>();
+        executors.forEach((contextClass, executor) -> result.put(contextClass, executor.getPlan().getFilterNames()));
+        return result;
+    }
+
+    /**
+     * 为所有执行器设置执行跟踪器，重新编译执行计划
+     *
+     * @param tracer 跟踪器，为 null 时关闭
+     */
+    public void setTracer(PipelineTracer tracer) {
+        executors.values().forEach(executor -> executor.setTracer(tracer));
+        prepare();
+    }
+
+    public FilterSelectorRegistry getSelectorRegistry() {
+        return selectorRegistry;
+    }
+
+    /**
+     * 编译执行计划并预热所有 selector
+     */
+    private void prepare() {
+        Collection<FilterSelector> selectors = selectorRegistry.getSelectors().values();
+        for (PipelineExecutor<?> executor : executors.values()) {
+            PipelinePlan<?> plan = executor.getPlan();
+            selectors.forEach(plan::prepare);
+        }
+    }
+
+    /**
+     * 校验 filter-selectors 中的 filter 名称
+     */
+    private void validate(Map<String, List<String>> config) {
+        Map<String, List<String>> unknown = new TreeMap<>();
+        config.forEach((typeName, names) -> {
+            if (names.size() == 1 && SWITCH_VALUES.contains(names.get(0))) {
+                return;
+            }
+            List<String> unknownNames = names.stream().filter(o -> !filterNames.contains(o)).toList();
+            if (!unknownNames.isEmpty()) {
+                unknown.put(typeName, unknownNames);
+            }
+        });
+        if (unknown.isEmpty()) {
+            return;
+        }
+        if (failOnUnknownFilter) {
+            throw new ExtensionException("Unknown pipeline filters in filter-selectors: {}", unknown);
+        }
+        log.warn("Unknown pipeline filters in filter-selectors: {}", unknown);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A extends PipelineContext> void appendFilter(PipelineExecutor<A> executor, PipelineFilter<?> filter) {
+        executor.appendFilter((PipelineFilter<A>) filter, PipelinePlan.filterName(filter));
+    }
+
+    private static Class<?> resolveContextClass(PipelineFilter<?> filter) {
+        Class<?> contextClass = ResolvableType.forClass(PipelinePlan.filterClass(filter))
+                .as(PipelineFilter.class)
+                .resolveGeneric(0);
+        if (contextClass == null) {
+            throw new ExtensionException("Cannot resolve context type of pipeline filter {}", filter.getClass().getName());
+        }
+        return contextClass;
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.cadecode.xboot.common.extension.pipeline.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 标记 filter 与相邻的同类 filter 互不依赖
+ * <p>
+ * PipelineExecutor 配置了并行线程池时，相邻的 IndependentFilter 组成一个并行阶段，
+ * 并发执行各自的 fork()，全部完成后在调用线程上按声明顺序执行合并动作，再继续后续 filter
+ * <p>
+ * 标记的 filter 必须重写 AbstractPipelineFilter.fork，只读取 context，否则编译执行计划时抛出异常
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface IndependentFilter {
+}
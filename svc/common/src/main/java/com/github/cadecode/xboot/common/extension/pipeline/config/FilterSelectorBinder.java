@@ -0,0 +1,39 @@
+package com.github.cadecode.xboot.common.extension.pipeline.config;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 从 Environment 绑定 filter-selectors 配置
+ * <p>
+ * {@code @ConfigurationProperties} bean 只在创建时绑定一次，属性源变化后不会自动更新；
+ * FilterSelectorRegistry 以 source 返回的 Supplier 作为配置来源时，每次 refresh 都通过 Binder 重新读取 Environment，
+ * 绑定规则与 {@code @ConfigurationProperties} 一致
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class FilterSelectorBinder {
+
+    @SuppressWarnings("unchecked")
+    private static final Bindable<Map<String, List<String>>> FILTER_SELECTORS = (Bindable<Map<String, List<String>>>) (Bindable<?>)
+            Bindable.of(ResolvableType.forClassWithGenerics(Map.class,
+                    ResolvableType.forClass(String.class), ResolvableType.forClassWithGenerics(List.class, String.class)));
+
+    /**
+     * 配置来源，每次调用时重新绑定
+     *
+     * @param environment Environment
+     * @param name        配置项全名，如 x-boot.pipeline.filter-selectors
+     * @return 未配置时返回 null
+     */
+    public static Supplier<Map<String, List<String>>> source(Environment environment, String name) {
+        return () -> Binder.get(environment).bind(name, FILTER_SELECTORS).orElse(null);
+    }
+}
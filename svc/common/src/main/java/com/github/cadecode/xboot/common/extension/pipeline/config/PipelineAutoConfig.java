@@ -0,0 +1,76 @@
+package com.github.cadecode.xboot.common.extension.pipeline.config;
+
+import com.github.cadecode.xboot.common.extension.pipeline.PipelineRegistry;
+import com.github.cadecode.xboot.common.extension.pipeline.filter.PipelineFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineTraceListener;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineTracer;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorRegistry;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Pipeline 自动配置类
+ * <p>
+ * 收集所有 PipelineFilter bean，按 @Order 排序后构建 PipelineRegistry
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Configuration
+@EnableConfigurationProperties(PipelineProperties.class)
+public class PipelineAutoConfig {
+
+    @ConditionalOnMissingBean
+    @Bean
+    public PipelineRegistry pipelineRegistry(ObjectProvider<PipelineFilter<?>> filters,
+                                             PipelineProperties properties,
+                                             ObjectProvider<PipelineTracer> tracer,
+                                             BeanFactory beanFactory,
+                                             Environment environment) {
+        List<PipelineFilter<?>> sortedFilters = filters.orderedStream().toList();
+        Executor parallelExecutor = StringUtils.hasText(properties.getParallelExecutor())
+                ? beanFactory.getBean(properties.getParallelExecutor(), Executor.class)
+                : null;
+        PipelineRegistry registry = new PipelineRegistry(sortedFilters,
+                FilterSelectorBinder.source(environment, "x-boot.pipeline.filter-selectors"),
+                parallelExecutor, properties.isFailOnUnknownFilter(),
+                Objects.requireNonNullElse(properties.getGuards(), Map.of()));
+        tracer.ifAvailable(registry::setTracer);
+        return registry;
+    }
+
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "x-boot.pipeline.trace", name = "enable", havingValue = "true")
+    @Bean
+    public PipelineTracer pipelineTracer(PipelineProperties properties,
+                                         ObjectProvider<PipelineTraceListener> traceListeners) {
+        PipelineProperties.Trace trace = properties.getTrace();
+        List<PipelineTraceListener> listeners = new ArrayList<>(traceListeners.orderedStream().toList());
+        if (Objects.nonNull(trace.getSlowThreshold())) {
+            listeners.add(PipelineTracer.slowLog(trace.getSlowThreshold()));
+        }
+        PipelineTraceListener listener = listeners.isEmpty()
+                ? null
+                : pipelineTrace -> listeners.forEach(l -> l.onTrace(pipelineTrace));
+        return new PipelineTracer(trace.getCapacity(), trace.getMaxEntries(), listener);
+    }
+
+    @ConditionalOnMissingBean(name = "pipelineSelectorRegistry")
+    @Bean
+    public FilterSelectorRegistry pipelineSelectorRegistry(PipelineRegistry pipelineRegistry) {
+        return pipelineRegistry.getSelectorRegistry();
+    }
+}
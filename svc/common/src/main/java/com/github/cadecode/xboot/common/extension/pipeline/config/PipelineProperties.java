@@ -0,0 +1,79 @@
+package com.github.cadecode.xboot.common.extension.pipeline.config;
+
+import com.github.cadecode.xboot.common.extension.pipeline.guard.PipelineGuardPolicy;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineTracer;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pipeline 配置项
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Data
+@ConfigurationProperties("x-boot.pipeline")
+public class PipelineProperties {
+
+    /**
+     * 过滤器启用配置
+     * <p>
+     * key: ExtensionType.getType() 值
+     * value: 启用的 filter 类名列表，或 on / off
+     */
+    private Map<String, List<String>> filterSelectors;
+
+    /**
+     * filter-selectors 中存在未知 filter 名称时是否启动失败
+     */
+    private boolean failOnUnknownFilter = true;
+
+    /**
+     * 并行阶段使用的线程池 bean 名称，如 asyncExecutor，不配置时串行执行
+     * <p>
+     * 保护策略开启 interruptOnTimeout 时，配置了超时的 filter 也在该线程池中执行并限时等待；
+     * 其他情况下 filter 在调用线程中执行，只在结束后判断是否超时
+     */
+    private String parallelExecutor;
+
+    /**
+     * 超时与熔断配置
+     * <p>
+     * key: ExtensionType.getType() 值
+     * value: 该业务类型的保护策略
+     */
+    private Map<String, PipelineGuardPolicy> guards;
+
+    /**
+     * 执行跟踪配置
+     */
+    private Trace trace = new Trace();
+
+    @Data
+    public static class Trace {
+
+        /**
+         * 是否记录每次执行的 filter 时间线
+         */
+        private boolean enable = false;
+
+        /**
+         * 环形缓冲区大小，即最多同时跟踪与保留的执行数量
+         */
+        private int capacity = PipelineTracer.DEFAULT_CAPACITY;
+
+        /**
+         * 单次执行最多记录的 filter 条数
+         */
+        private int maxEntries = PipelineTracer.DEFAULT_MAX_ENTRIES;
+
+        /**
+         * 整体耗时超过该值时输出时间线 WARN 日志，不配置时不输出
+         */
+        private Duration slowThreshold;
+    }
+}
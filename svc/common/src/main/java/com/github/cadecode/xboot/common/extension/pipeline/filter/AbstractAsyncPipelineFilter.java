@@ -0,0 +1,47 @@
+package com.github.cadecode.xboot.common.extension.pipeline.filter;
+
+import com.github.cadecode.xboot.common.exception.ExtensionException;
+import com.github.cadecode.xboot.common.extension.pipeline.PipelineContext;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 异步过滤器抽象类
+ * <p>
+ * 等待 I/O 的 filter 继承该类，在 handleAsync 中发起调用后立即返回 CompletionStage，不阻塞当前线程。
+ * 通过 PipelineExecutor.executeAsync 执行时，后续 filter 在 CompletionStage 完成后继续执行；
+ * 通过 execute 同步执行时，handle 等待 CompletionStage 完成
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public abstract class AbstractAsyncPipelineFilter<T extends PipelineContext> extends AbstractPipelineFilter<T> {
+
+    /**
+     * 异步处理主逻辑
+     *
+     * @param context pipeline 上下文
+     * @return 处理完成的 CompletionStage，不能为 null
+     */
+    public abstract CompletionStage<Void> handleAsync(T context);
+
+    /**
+     * 同步执行时等待 handleAsync 完成，异常按原类型抛出
+     */
+    @Override
+    public void handle(T context) {
+        try {
+            handleAsync(context).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ExtensionException("Pipeline filter execute fail", cause);
+        }
+    }
+}
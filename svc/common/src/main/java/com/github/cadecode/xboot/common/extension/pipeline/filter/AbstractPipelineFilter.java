@@ -1,9 +1,13 @@
 package com.github.cadecode.xboot.common.extension.pipeline.filter;
 
+import com.github.cadecode.xboot.common.exception.ExtensionException;
 import com.github.cadecode.xboot.common.extension.pipeline.PipelineContext;
 import com.github.cadecode.xboot.common.extension.pipeline.PipelineFilterChain;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * 过滤器抽象类
  *
@@ -24,7 +28,7 @@ public abstract class AbstractPipelineFilter<T extends PipelineContext> implemen
         if (context.continueChain()) {
             filterChain.next(context);
         } else {
-            log.info("Pipeline chain interrupted by [{}] for type '{}'",
+            log.debug("Pipeline chain interrupted by [{}] for type '{}'",
                     this.getClass().getSimpleName(), context.getPipelineType().getType());
         }
     }
@@ -33,4 +37,42 @@ public abstract class AbstractPipelineFilter<T extends PipelineContext> implemen
      * 过滤处理主逻辑
      */
     public abstract void handle(T context);
+
+    /**
+     * 批量处理逻辑，由 PipelineExecutor.executeBatch 调用，context 均已匹配当前 filter
+     * <p>
+     * 默认逐个调用 handle，需要批量查询时重写，如以一次 IN 查询代替逐条查询
+     *
+     * @param contexts 匹配当前 filter 的 context 列表，只读
+     */
+    public void handleBatch(List<T> contexts) {
+        for (T context : contexts) {
+            handle(context);
+        }
+    }
+
+    /**
+     * 降级逻辑，业务类型的保护策略为 SKIP 时，handle 失败、超时或熔断后调用，之后继续执行后续 filter
+     * <p>
+     * 默认不做处理，可重写为写入默认值或标记降级
+     *
+     * @param context pipeline 上下文
+     * @param cause   失败原因，超时为 PipelineTimeoutException
+     */
+    public void fallback(T context, Throwable cause) {
+    }
+
+    /**
+     * 并行阶段中的处理逻辑，由标记了 IndependentFilter 的 filter 在并行线程中调用
+     * <p>
+     * 阶段内的 filter 共享同一个 context 并发执行，重写时只读取 context，将写操作作为返回的合并动作，
+     * 由调用线程在阶段结束后按 filter 顺序执行；标记了 IndependentFilter 的 filter 必须重写，默认实现抛出异常
+     *
+     * @param context pipeline 上下文
+     * @return 合并动作，没有时返回 null
+     */
+    public Consumer<T> fork(T context) {
+        throw new ExtensionException("Pipeline filter [{}] must override fork to run in a parallel stage",
+                this.getClass().getSimpleName());
+    }
 }
@@ -0,0 +1,90 @@
+package com.github.cadecode.xboot.common.extension.pipeline.guard;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * filter 熔断器
+ * <p>
+ * 连续失败次数达到阈值后熔断，熔断期间 tryAcquire 返回 false；到期后只放行一个试探调用，成功则恢复，失败则重新熔断。
+ * 状态保存在原子变量中，正常状态下 tryAcquire 只读一次 volatile 字段
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class FilterCircuitBreaker {
+
+    private final int failureThreshold;
+
+    private final long openNanos;
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    /**
+     * 熔断截止时间，0 表示未熔断
+     */
+    private volatile long openUntil;
+
+    /**
+     * 半开状态下是否已放行试探调用
+     */
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    public FilterCircuitBreaker(int failureThreshold, long openNanos) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openNanos;
+    }
+
+    /**
+     * 是否放行本次调用
+     *
+     * @param now 当前 System.nanoTime
+     */
+    public boolean tryAcquire(long now) {
+        long until = openUntil;
+        if (until == 0L) {
+            return true;
+        }
+        if (now - until < 0L) {
+            return false;
+        }
+        return probing.compareAndSet(false, true);
+    }
+
+    /**
+     * 调用成功
+     */
+    public void onSuccess() {
+        if (failures.get() != 0) {
+            failures.set(0);
+        }
+        if (openUntil != 0L) {
+            openUntil = 0L;
+            probing.set(false);
+        }
+    }
+
+    /**
+     * 调用失败
+     *
+     * @param now 当前 System.nanoTime
+     */
+    public void onFailure(long now) {
+        int count = failures.incrementAndGet();
+        if (failureThreshold <= 0) {
+            return;
+        }
+        if (probing.get() || count >= failureThreshold) {
+            // 保证 openUntil 不为 0
+            openUntil = (now + openNanos) | 1L;
+            probing.set(false);
+        }
+    }
+
+    /**
+     * 是否处于熔断状态
+     */
+    public boolean isOpen() {
+        return openUntil != 0L;
+    }
+}
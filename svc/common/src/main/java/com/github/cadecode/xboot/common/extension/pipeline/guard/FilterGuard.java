@@ -0,0 +1,102 @@
+package com.github.cadecode.xboot.common.extension.pipeline.guard;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 单个业务类型的保护状态，由执行计划按业务类型创建
+ * <p>
+ * 持有策略换算后的纳秒值与每个 filter 的熔断器，filter 以其在计划中的下标标识
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class FilterGuard {
+
+    private final long filterTimeoutNanos;
+
+    private final long pipelineTimeoutNanos;
+
+    private final long slowCallNanos;
+
+    private final boolean skipOnFailure;
+
+    private final boolean interruptOnTimeout;
+
+    private final FilterCircuitBreaker[] breakers;
+
+    public FilterGuard(PipelineGuardPolicy policy, int filterCount) {
+        this.filterTimeoutNanos = toNanos(policy.getFilterTimeout());
+        this.pipelineTimeoutNanos = toNanos(policy.getPipelineTimeout());
+        this.slowCallNanos = toNanos(policy.getSlowCallThreshold());
+        this.skipOnFailure = policy.getFallback() == PipelineGuardPolicy.Fallback.SKIP;
+        this.interruptOnTimeout = policy.isInterruptOnTimeout() && filterTimeoutNanos > 0L;
+        long openNanos = Objects.requireNonNullElse(policy.getOpenDuration(), Duration.ZERO).toNanos();
+        this.breakers = new FilterCircuitBreaker[filterCount];
+        for (int i = 0; i < filterCount; i++) {
+            breakers[i] = new FilterCircuitBreaker(policy.getFailureThreshold(), openNanos);
+        }
+    }
+
+    /**
+     * 计算 pipeline 截止时间，未配置时返回 0
+     *
+     * @param start 开始时的 System.nanoTime
+     */
+    public long deadline(long start) {
+        return pipelineTimeoutNanos > 0L ? (start + pipelineTimeoutNanos) | 1L : 0L;
+    }
+
+    /**
+     * filter 可用的超时时间，取 filter 超时与 pipeline 剩余时间的较小值，均未配置时返回 0
+     */
+    public long filterTimeout(long now, long deadline) {
+        long remaining = deadline != 0L ? Math.max(1L, deadline - now) : 0L;
+        if (filterTimeoutNanos <= 0L) {
+            return remaining;
+        }
+        return remaining > 0L ? Math.min(filterTimeoutNanos, remaining) : filterTimeoutNanos;
+    }
+
+    public boolean isExpired(long now, long deadline) {
+        return deadline != 0L && now - deadline >= 0L;
+    }
+
+    public boolean tryAcquire(int index, long now) {
+        return breakers[index].tryAcquire(now);
+    }
+
+    /**
+     * 记录调用结果，慢调用计为失败
+     */
+    public void onComplete(int index, long now, long nanos) {
+        if (slowCallNanos > 0L && nanos > slowCallNanos) {
+            breakers[index].onFailure(now);
+        } else {
+            breakers[index].onSuccess();
+        }
+    }
+
+    public void onFailure(int index, long now) {
+        breakers[index].onFailure(now);
+    }
+
+    public boolean isSkipOnFailure() {
+        return skipOnFailure;
+    }
+
+    /**
+     * 是否在线程池中执行 filter 并在超时后中断，需显式配置 filter 超时并开启 interruptOnTimeout
+     */
+    public boolean isInterruptOnTimeout() {
+        return interruptOnTimeout;
+    }
+
+    public FilterCircuitBreaker getBreaker(int index) {
+        return breakers[index];
+    }
+
+    private static long toNanos(Duration duration) {
+        return duration == null ? 0L : duration.toNanos();
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.cadecode.xboot.common.extension.pipeline.guard;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Pipeline 保护策略，按业务类型配置
+ * <p>
+ * 包括单个 filter 与整条 pipeline 的超时，以及每个 filter 的熔断
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Data
+public class PipelineGuardPolicy {
+
+    /**
+     * 单个 filter 超时时间，不配置时不限制
+     * <p>
+     * filter 在调用线程中执行，结束后判断耗时，超时按失败处理；该模式只在事后记录超时，不限制卡住的 filter 的运行时间，
+     * 需要中断时开启 interruptOnTimeout
+     */
+    private Duration filterTimeout;
+
+    /**
+     * 配置了 filterTimeout 且执行器有并行线程池时，是否将 filter 放到线程池中执行，超时后中断 filter 线程并放弃等待
+     * <p>
+     * 放弃等待后 context 交给仍在运行的 filter 线程，pipeline 降级或抛出异常后，该线程仍可能读写 context，
+     * 只适用于响应中断、且超时后不再修改 context 的 filter；每次调用额外占用一个线程池线程
+     */
+    private boolean interruptOnTimeout = false;
+
+    /**
+     * 整条 pipeline 超时时间，每个 filter 执行前检查，不配置时不限制
+     */
+    private Duration pipelineTimeout;
+
+    /**
+     * 慢调用阈值，耗时超过该值的调用计为失败，不配置时只统计异常与超时
+     */
+    private Duration slowCallThreshold;
+
+    /**
+     * 连续失败多少次后熔断，小于等于 0 时不熔断
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * 熔断持续时间，之后放行一次试探调用，成功则恢复
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /**
+     * filter 失败或熔断时的处理方式
+     */
+    private Fallback fallback = Fallback.FAIL;
+
+    public enum Fallback {
+        /**
+         * 调用 filter 的 fallback 后继续执行后续 filter
+         */
+        SKIP,
+        /**
+         * 抛出异常，中止 pipeline
+         */
+        FAIL
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.cadecode.xboot.common.extension.pipeline.monitor;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+
+import java.util.List;
+
+/**
+ * Pipeline 监控接口
+ * <p>
+ * 由 PipelineMonitorHolder 注册，执行计划首次执行某业务类型时调用 probe 获取探针并缓存，
+ * 之后该类型的执行直接回调探针，如 MicrometerPipelineMonitor
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public interface PipelineMonitor {
+
+    /**
+     * 不记录任何数据的监控
+     */
+    PipelineMonitor NOOP = (type, filterNames) -> PipelineProbe.NOOP;
+
+    /**
+     * 创建探针
+     *
+     * @param type        业务类型
+     * @param filterNames 按执行顺序排列的 filter 名称，下标与探针回调的 index 对应
+     * @return 探针
+     */
+    PipelineProbe probe(ExtensionType type, List<String> filterNames);
+}
@@ -0,0 +1,63 @@
+package com.github.cadecode.xboot.common.extension.pipeline.monitor;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Pipeline 监控持有者
+ * <p>
+ * PipelineExecutor 多由业务代码直接创建，不经过 Spring 注入，监控以静态方式注册，对所有执行计划生效
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class PipelineMonitorHolder {
+
+    private static volatile PipelineMonitor monitor = PipelineMonitor.NOOP;
+
+    /**
+     * 采样记录 trace 日志的比例，0 表示关闭
+     */
+    private static volatile double traceSampleRate;
+
+    /**
+     * 获取当前监控
+     */
+    public static PipelineMonitor getMonitor() {
+        return monitor;
+    }
+
+    /**
+     * 设置监控，执行计划在下次执行时重新获取探针
+     */
+    public static void setMonitor(PipelineMonitor pipelineMonitor) {
+        monitor = Objects.isNull(pipelineMonitor) ? PipelineMonitor.NOOP : pipelineMonitor;
+    }
+
+    /**
+     * 设置 trace 日志采样比例，取值 [0, 1]，需同时开启 TracingPipelineProbe 的 DEBUG 日志
+     */
+    public static void setTraceSampleRate(double rate) {
+        traceSampleRate = Math.max(0D, Math.min(1D, rate));
+    }
+
+    /**
+     * 按采样比例为本次执行包装 trace 探针，未命中时返回原探针
+     *
+     * @param probe       原探针
+     * @param type        业务类型
+     * @param filterNames filter 名称
+     * @return 探针
+     */
+    public static PipelineProbe sample(PipelineProbe probe, ExtensionType type, List<String> filterNames) {
+        double rate = traceSampleRate;
+        if (rate <= 0D || !TracingPipelineProbe.isTraceEnabled()
+                || ThreadLocalRandom.current().nextDouble() >= rate) {
+            return probe;
+        }
+        return new TracingPipelineProbe(probe, type, filterNames);
+    }
+}
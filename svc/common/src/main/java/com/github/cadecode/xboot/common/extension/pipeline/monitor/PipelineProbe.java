@@ -0,0 +1,61 @@
+package com.github.cadecode.xboot.common.extension.pipeline.monitor;
+
+/**
+ * Pipeline 探针
+ * <p>
+ * 每个执行计划按业务类型获取一个探针，执行过程中回调，filter 以其在计划中的下标标识。
+ * 实现需线程安全且不阻塞，回调位于执行热路径上
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public interface PipelineProbe {
+
+    /**
+     * 不记录任何数据的探针
+     */
+    PipelineProbe NOOP = new PipelineProbe() {
+    };
+
+    /**
+     * 是否启用，未启用时执行计划不计时也不回调
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * filter 执行完成，包括异常结束
+     *
+     * @param index 下标
+     * @param nanos 耗时
+     */
+    default void onFilter(int index, long nanos) {
+    }
+
+    /**
+     * filter 未被 selector 匹配而跳过
+     *
+     * @param index 下标
+     */
+    default void onSkip(int index) {
+    }
+
+    /**
+     * filter 执行后 continueChain 为 false，链中断
+     *
+     * @param index 下标
+     */
+    default void onInterrupt(int index) {
+    }
+
+    /**
+     * pipeline 执行结束
+     *
+     * @param depth 到达的 filter 数量，未知时为 -1
+     * @param nanos 耗时
+     * @param error 异常，正常结束时为 null
+     */
+    default void onComplete(int depth, long nanos, Throwable error) {
+    }
+}
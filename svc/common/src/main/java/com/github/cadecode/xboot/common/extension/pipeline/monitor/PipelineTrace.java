@@ -0,0 +1,229 @@
+package com.github.cadecode.xboot.common.extension.pipeline.monitor;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 单次 pipeline 执行的 filter 时间线
+ * <p>每条记录包含 filter 下标、状态、相对执行开始的偏移与耗时，记录数组按 maxEntries 预先分配，
+ * 由 PipelineTracer 的环形缓冲区复用，记录过程不分配对象；超过 maxEntries 的记录被丢弃，isTruncated 为 true
+ * <p>PipelineTraceListener 回调中得到的实例在回调返回后会被复用，需要保留时调用 copy
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public final class PipelineTrace {
+
+    /**
+     * filter 状态
+     */
+    public enum Status {
+        /**
+         * 被 selector 匹配并执行，包括异常结束
+         */
+        EXECUTED,
+        /**
+         * 未被 selector 匹配
+         */
+        SKIPPED,
+        /**
+         * 执行后 continueChain 为 false，链中断
+         */
+        INTERRUPTED
+    }
+
+    private final int[] indexes;
+
+    private final Status[] statuses;
+
+    private final long[] offsets;
+
+    private final long[] durations;
+
+    private final AtomicInteger position = new AtomicInteger();
+
+    private ExtensionType type;
+
+    private List<String> filterNames;
+
+    private long startTime;
+
+    private long startNanos;
+
+    private long duration;
+
+    private int depth;
+
+    private Throwable error;
+
+    PipelineTrace(int maxEntries) {
+        this.indexes = new int[maxEntries];
+        this.statuses = new Status[maxEntries];
+        this.offsets = new long[maxEntries];
+        this.durations = new long[maxEntries];
+    }
+
+    void begin(ExtensionType pipelineType, List<String> names) {
+        type = pipelineType;
+        filterNames = names;
+        startTime = System.currentTimeMillis();
+        startNanos = System.nanoTime();
+        duration = -1L;
+        depth = -1;
+        error = null;
+        position.set(0);
+    }
+
+    /**
+     * 记录一条 filter 时间线，并行阶段的 filter 可能并发调用
+     *
+     * @param index  filter 下标
+     * @param status 状态
+     * @param end    结束时的 System.nanoTime
+     * @param nanos  耗时
+     */
+    void record(int index, Status status, long end, long nanos) {
+        int pos = position.getAndIncrement();
+        if (pos < indexes.length) {
+            indexes[pos] = index;
+            statuses[pos] = status;
+            offsets[pos] = end - nanos - startNanos;
+            durations[pos] = nanos;
+        }
+    }
+
+    /**
+     * 将该 filter 最近一条记录标记为中断
+     */
+    void interrupt(int index) {
+        for (int i = size() - 1; i >= 0; i--) {
+            if (indexes[i] == index) {
+                statuses[i] = Status.INTERRUPTED;
+                return;
+            }
+        }
+    }
+
+    void end(int reachedDepth, long nanos, Throwable cause) {
+        depth = reachedDepth;
+        duration = nanos;
+        error = cause;
+    }
+
+    /**
+     * 复制为独立的实例，只包含已记录的条目
+     */
+    public PipelineTrace copy() {
+        int size = size();
+        PipelineTrace copy = new PipelineTrace(size);
+        System.arraycopy(indexes, 0, copy.indexes, 0, size);
+        System.arraycopy(statuses, 0, copy.statuses, 0, size);
+        System.arraycopy(offsets, 0, copy.offsets, 0, size);
+        System.arraycopy(durations, 0, copy.durations, 0, size);
+        copy.position.set(position.get());
+        copy.type = type;
+        copy.filterNames = filterNames;
+        copy.startTime = startTime;
+        copy.startNanos = startNanos;
+        copy.duration = duration;
+        copy.depth = depth;
+        copy.error = error;
+        return copy;
+    }
+
+    public ExtensionType getType() {
+        return type;
+    }
+
+    /**
+     * 执行开始的时间戳，毫秒
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * 整体耗时，纳秒
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * 到达的 filter 数量，未知时为 -1
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * 执行异常，正常结束时为 null
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * 记录条数
+     */
+    public int size() {
+        return Math.min(position.get(), indexes.length);
+    }
+
+    /**
+     * 是否有记录因超过 maxEntries 被丢弃
+     */
+    public boolean isTruncated() {
+        return position.get() > indexes.length;
+    }
+
+    public String getFilterName(int i) {
+        return filterNames.get(indexes[i]);
+    }
+
+    public Status getStatus(int i) {
+        return statuses[i];
+    }
+
+    /**
+     * 相对执行开始的偏移，纳秒
+     */
+    public long getOffset(int i) {
+        return offsets[i];
+    }
+
+    /**
+     * filter 耗时，纳秒，跳过的 filter 为 0
+     */
+    public long getFilterDuration(int i) {
+        return durations[i];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PipelineTrace[type=").append(type == null ? null : type.getType())
+                .append(", duration=").append(TimeUnit.NANOSECONDS.toMicros(duration)).append("us")
+                .append(", depth=").append(depth);
+        if (error != null) {
+            sb.append(", error=").append(error.getClass().getSimpleName());
+        }
+        sb.append(", timeline=[");
+        for (int i = 0, size = size(); i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(getFilterName(i)).append(' ').append(statuses[i])
+                    .append(" +").append(TimeUnit.NANOSECONDS.toMicros(offsets[i])).append("us");
+            if (statuses[i] != Status.SKIPPED) {
+                sb.append(' ').append(TimeUnit.NANOSECONDS.toMicros(durations[i])).append("us");
+            }
+        }
+        if (isTruncated()) {
+            sb.append(", ...");
+        }
+        return sb.append("]]").toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.cadecode.xboot.common.extension.pipeline.monitor;
+
+/**
+ * Pipeline trace 监听器
+ * <p>每次被跟踪的执行结束时回调，可将时间线导出为 span 或输出日志；回调位于执行线程上，需尽快返回
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@FunctionalInterface
+public interface PipelineTraceListener {
+
+    /**
+     * 执行结束
+     *
+     * @param trace 本次执行的时间线，回调返回后被复用，需要保留时调用 copy
+     */
+    void onTrace(PipelineTrace trace);
+}
@@ -0,0 +1,195 @@
+package com.github.cadecode.xboot.common.extension.pipeline.monitor;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pipeline 执行跟踪器
+ * <p>通过 PipelineExecutor.setTracer 开启，每次执行从固定大小的环形缓冲区中领取一个 PipelineTrace，
+ * 记录每个 filter 的执行、跳过与中断及其偏移和耗时，结束时回调 PipelineTraceListener；
+ * 缓冲区与记录数组在创建时一次性分配，跟踪过程不产生垃圾对象
+ * <p>已结束的 trace 保留到被后续执行覆盖，可通过 recent 读取；连续 MAX_ATTEMPTS 个位置均在执行中时本次执行不跟踪并计入 dropped，
+ * 缓冲区饱和时领取的开销与容量无关
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Slf4j
+public class PipelineTracer {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private static final int FREE = 0;
+
+    private static final int WRITING = 1;
+
+    private static final int DONE = 2;
+
+    /**
+     * 单次执行最多尝试领取的位置数
+     */
+    private static final int MAX_ATTEMPTS = 4;
+
+    private final Slot[] slots;
+
+    private final PipelineTraceListener listener;
+
+    private final AtomicLong cursor = new AtomicLong();
+
+    private final LongAdder dropped = new LongAdder();
+
+    public PipelineTracer() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_ENTRIES, null);
+    }
+
+    /**
+     * @param capacity   环形缓冲区大小，即最多同时跟踪与保留的执行数量
+     * @param maxEntries 单次执行最多记录的 filter 条数
+     * @param listener   执行结束的回调，可为 null
+     */
+    public PipelineTracer(int capacity, int maxEntries, PipelineTraceListener listener) {
+        this.slots = new Slot[Math.max(1, capacity)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot(Math.max(1, maxEntries));
+        }
+        this.listener = listener;
+    }
+
+    /**
+     * 输出慢执行时间线的监听器
+     *
+     * @param threshold 整体耗时阈值，超过时输出 WARN 日志
+     */
+    public static PipelineTraceListener slowLog(Duration threshold) {
+        long thresholdNanos = threshold.toNanos();
+        return trace -> {
+            if (trace.getDuration() >= thresholdNanos) {
+                log.warn("Pipeline slow execution, {}", trace);
+            }
+        };
+    }
+
+    /**
+     * 为本次执行领取 trace，由执行计划在执行入口调用
+     *
+     * @param delegate    业务类型对应的探针，回调同时转发
+     * @param type        业务类型
+     * @param filterNames filter 名称
+     * @return 记录时间线的探针，未领取到位置时返回 delegate
+     */
+    public PipelineProbe begin(PipelineProbe delegate, ExtensionType type, List<String> filterNames) {
+        int attempts = Math.min(MAX_ATTEMPTS, slots.length);
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            long seq = cursor.getAndIncrement();
+            Slot slot = slots[(int) Math.floorMod(seq, (long) slots.length)];
+            int state = slot.state.get();
+            if (state != WRITING && slot.state.compareAndSet(state, WRITING)) {
+                slot.seq = seq;
+                slot.delegate = delegate;
+                slot.trace.begin(type, filterNames);
+                return slot;
+            }
+        }
+        dropped.increment();
+        return delegate;
+    }
+
+    /**
+     * 已结束的 trace 副本，按开始顺序倒序
+     */
+    public List<PipelineTrace> recent() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (Slot slot : slots) {
+            long seq = slot.seq;
+            if (slot.state.get() != DONE) {
+                continue;
+            }
+            PipelineTrace copy = slot.trace.copy();
+            // 复制期间被新的执行领取时丢弃
+            if (slot.state.get() == DONE && slot.seq == seq) {
+                snapshots.add(new Snapshot(seq, copy));
+            }
+        }
+        snapshots.sort(Comparator.comparingLong(Snapshot::seq).reversed());
+        return snapshots.stream().map(Snapshot::trace).toList();
+    }
+
+    /**
+     * 因未领取到位置未跟踪的执行次数
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private record Snapshot(long seq, PipelineTrace trace) {
+    }
+
+    /**
+     * 环形缓冲区中的位置，作为单次执行的探针
+     */
+    private final class Slot implements PipelineProbe {
+
+        private final AtomicInteger state = new AtomicInteger(FREE);
+
+        private final PipelineTrace trace;
+
+        private volatile long seq;
+
+        private PipelineProbe delegate;
+
+        Slot(int maxEntries) {
+            this.trace = new PipelineTrace(maxEntries);
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void onFilter(int index, long nanos) {
+            delegate.onFilter(index, nanos);
+            trace.record(index, PipelineTrace.Status.EXECUTED, System.nanoTime(), nanos);
+        }
+
+        @Override
+        public void onSkip(int index) {
+            delegate.onSkip(index);
+            trace.record(index, PipelineTrace.Status.SKIPPED, System.nanoTime(), 0L);
+        }
+
+        @Override
+        public void onInterrupt(int index) {
+            delegate.onInterrupt(index);
+            trace.interrupt(index);
+        }
+
+        @Override
+        public void onComplete(int depth, long nanos, Throwable error) {
+            PipelineProbe currDelegate = delegate;
+            trace.end(depth, nanos, error);
+            try {
+                if (Objects.nonNull(listener)) {
+                    listener.onTrace(trace);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Pipeline trace listener fail", e);
+            } finally {
+                delegate = null;
+                state.set(DONE);
+            }
+            currDelegate.onComplete(depth, nanos, error);
+        }
+    }
+}
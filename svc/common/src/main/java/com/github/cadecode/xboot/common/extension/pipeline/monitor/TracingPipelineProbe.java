@@ -0,0 +1,64 @@
+package com.github.cadecode.xboot.common.extension.pipeline.monitor;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 记录 trace 日志的探针，只用于被采样的单次执行，回调同时转发给原探针
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Slf4j
+class TracingPipelineProbe implements PipelineProbe {
+
+    private final PipelineProbe delegate;
+
+    private final ExtensionType type;
+
+    private final List<String> filterNames;
+
+    TracingPipelineProbe(PipelineProbe delegate, ExtensionType type, List<String> filterNames) {
+        this.delegate = delegate;
+        this.type = type;
+        this.filterNames = filterNames;
+    }
+
+    static boolean isTraceEnabled() {
+        return log.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void onFilter(int index, long nanos) {
+        delegate.onFilter(index, nanos);
+        log.debug("Pipeline trace type '{}' filter [{}] executed in {}us",
+                type.getType(), filterNames.get(index), TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    @Override
+    public void onSkip(int index) {
+        delegate.onSkip(index);
+        log.debug("Pipeline trace type '{}' filter [{}] skipped", type.getType(), filterNames.get(index));
+    }
+
+    @Override
+    public void onInterrupt(int index) {
+        delegate.onInterrupt(index);
+        log.debug("Pipeline trace type '{}' chain interrupted by [{}]", type.getType(), filterNames.get(index));
+    }
+
+    @Override
+    public void onComplete(int depth, long nanos, Throwable error) {
+        delegate.onComplete(depth, nanos, error);
+        log.debug("Pipeline trace type '{}' completed, depth {} in {}us, error: {}",
+                type.getType(), depth, TimeUnit.NANOSECONDS.toMicros(nanos), error);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.cadecode.xboot.common.extension.pipeline.pool;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.exception.ExtensionException;
+import com.github.cadecode.xboot.common.extension.pipeline.PipelineContext;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelector;
+
+/**
+ * 可复用的 pipeline 上下文抽象类
+ * <p>由 PipelineContextPool 创建和复用，acquire 时设置业务类型与 selector，release 时调用 reset 清空业务字段后放回池中。
+ * 执行完成后通过 close / release 归还，可配合 try-with-resources 使用
+ * <p>池开启 debug 时，归还后再读取业务类型或 selector 抛出 ExtensionException，异常的 cause 为归还时的调用栈；
+ * 子类可在自己的访问方法中调用 ensureActive 做同样的检查
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public abstract class AbstractPooledPipelineContext implements PipelineContext, AutoCloseable {
+
+    private ExtensionType pipelineType;
+
+    private FilterSelector filterSelector;
+
+    private PipelineContextPool<?> pool;
+
+    /**
+     * 是否已归还
+     */
+    private volatile boolean released = true;
+
+    /**
+     * debug 模式下记录归还时的调用栈
+     */
+    private Throwable releaseTrace;
+
+    /**
+     * 清空业务字段，归还到池中前调用
+     */
+    protected abstract void reset();
+
+    @Override
+    public ExtensionType getPipelineType() {
+        ensureActive();
+        return pipelineType;
+    }
+
+    @Override
+    public FilterSelector getFilterSelector() {
+        ensureActive();
+        return filterSelector;
+    }
+
+    /**
+     * 归还到池中，归还后不能再使用该上下文
+     *
+     * @throws ExtensionException 如果重复归还
+     */
+    public void release() {
+        PipelineContextPool<?> currPool = pool;
+        if (released || currPool == null) {
+            throw new ExtensionException("Pipeline context {} not acquired or already released", releaseTrace,
+                    getClass().getSimpleName());
+        }
+        released = true;
+        releaseTrace = currPool.isDebug() ? new Throwable("Released here") : null;
+        reset();
+        pipelineType = null;
+        filterSelector = null;
+        currPool.recycle(this);
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+    /**
+     * debug 模式下检查上下文未被归还
+     *
+     * @throws ExtensionException 如果上下文已归还
+     */
+    protected final void ensureActive() {
+        PipelineContextPool<?> currPool = pool;
+        if (currPool != null && currPool.isDebug() && released) {
+            throw new ExtensionException("Pipeline context {} used after release", releaseTrace, getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * 从池中取出时设置业务类型与 selector
+     */
+    void init(PipelineContextPool<?> owner, ExtensionType type, FilterSelector selector) {
+        pool = owner;
+        pipelineType = type;
+        filterSelector = selector;
+        releaseTrace = null;
+        released = false;
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.cadecode.xboot.common.extension.pipeline.pool;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelector;
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * pipeline 上下文池
+ * <p>每个线程持有一个有界的空闲队列，acquire / release 无锁；队列为空时由 factory 创建，队列已满时丢弃归还的上下文。
+ * 在其他线程归还的上下文进入该线程的队列，异步执行时同样适用
+ * <p>selector 不可变，由 selectorResolver 按业务类型获取后直接共享，如 FilterSelectorRegistry::getSelector，
+ * 配置刷新后新取出的上下文立即使用新的 selector
+ * <p>debug 模式下记录归还时的调用栈，上下文归还后仍被读取时抛出异常，用于排查泄漏
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class PipelineContextPool<T extends AbstractPooledPipelineContext> {
+
+    public static final int DEFAULT_MAX_IDLE_PER_THREAD = 16;
+
+    private final Supplier<T> factory;
+
+    private final Function<ExtensionType, FilterSelector> selectorResolver;
+
+    private final int maxIdlePerThread;
+
+    /**
+     * 是否开启归还后使用检测
+     */
+    @Getter
+    private final boolean debug;
+
+    private final ThreadLocal<ArrayDeque<T>> idle;
+
+    public PipelineContextPool(Supplier<T> factory, Function<ExtensionType, FilterSelector> selectorResolver) {
+        this(factory, selectorResolver, DEFAULT_MAX_IDLE_PER_THREAD, false);
+    }
+
+    /**
+     * @param factory          创建上下文
+     * @param selectorResolver 按业务类型获取 selector
+     * @param maxIdlePerThread 每个线程最多缓存的空闲上下文数量
+     * @param debug            是否开启归还后使用检测
+     */
+    public PipelineContextPool(Supplier<T> factory, Function<ExtensionType, FilterSelector> selectorResolver,
+                               int maxIdlePerThread, boolean debug) {
+        this.factory = Objects.requireNonNull(factory);
+        this.selectorResolver = Objects.requireNonNull(selectorResolver);
+        this.maxIdlePerThread = Math.max(0, maxIdlePerThread);
+        this.debug = debug;
+        this.idle = ThreadLocal.withInitial(() -> new ArrayDeque<>(this.maxIdlePerThread));
+    }
+
+    /**
+     * 取出业务类型对应的上下文，selector 由 selectorResolver 获取
+     *
+     * @param type 业务类型
+     * @return 已重置的上下文，使用完成后调用 release
+     */
+    public T acquire(ExtensionType type) {
+        return acquire(type, selectorResolver.apply(type));
+    }
+
+    /**
+     * 以指定的 selector 取出上下文
+     *
+     * @param type     业务类型
+     * @param selector FilterSelector
+     * @return 已重置的上下文，使用完成后调用 release
+     */
+    public T acquire(ExtensionType type, FilterSelector selector) {
+        T context = idle.get().pollFirst();
+        if (context == null) {
+            context = factory.get();
+        }
+        context.init(this, type, selector);
+        return context;
+    }
+
+    /**
+     * 由 AbstractPooledPipelineContext.release 调用，放回当前线程的空闲队列
+     */
+    @SuppressWarnings("unchecked")
+    void recycle(AbstractPooledPipelineContext context) {
+        ArrayDeque<T> queue = idle.get();
+        if (queue.size() < maxIdlePerThread) {
+            queue.offerFirst((T) context);
+        }
+    }
+
+    /**
+     * 当前线程的空闲上下文数量
+     */
+    public int idleSize() {
+        return idle.get().size();
+    }
+}
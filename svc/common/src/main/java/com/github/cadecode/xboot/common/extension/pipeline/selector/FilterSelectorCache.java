@@ -0,0 +1,105 @@
+package com.github.cadecode.xboot.common.extension.pipeline.selector;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * FilterSelector 解析缓存
+ * <p>
+ * 每个 PipelinePlan 持有一份，缓存不可变 selector 启用的 filter 下标位图，执行时每个 filter 只需一次位判断，
+ * 查询只做一次按实例或类型的哈希查找，与 filter 列表长度无关：
+ * <ul>
+ *     <li>IndexedFilterSelector 不可变且按 filter 列表驻留，以实例为 key</li>
+ *     <li>MatchAllFilterSelector、DummyFilterSelector 的结果与实例无关，以类型为 key</li>
+ * </ul>
+ * 缓存结果只取决于 key 与计划的 filter 列表，不会过期，不需要失效；
+ * LocalListFilterSelector 的列表可变，其他实现（含上述类型的子类）的 matchFilter 可能依赖任意状态，均不缓存，由调用方逐个 matchFilter；
+ * 需要缓存时使用 IndexedFilterSelector.of 创建 selector。
+ * 缓存项超过上限时按加入顺序淘汰最早的项，缓存持有的 selector 数量有上限
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public final class FilterSelectorCache {
+
+    /**
+     * 单个计划最多缓存的 key 数量，超出后淘汰最早加入的项
+     */
+    private static final int MAX_SIZE = 256;
+
+    private final String[] filterNames;
+
+    private final ConcurrentHashMap<Object, BitSet> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存 key 的加入顺序，用于淘汰
+     */
+    private final Queue<Object> order = new ConcurrentLinkedQueue<>();
+
+    public FilterSelectorCache(List<String> filterNames) {
+        this.filterNames = filterNames.toArray(new String[0]);
+    }
+
+    /**
+     * 获取 selector 启用的 filter 下标位图
+     *
+     * @param selector FilterSelector
+     * @return 位图，selector 不可缓存时返回 null
+     */
+    public BitSet resolve(FilterSelector selector) {
+        Object key = lookupKey(selector);
+        if (key == null) {
+            return null;
+        }
+        BitSet mask = entries.get(key);
+        if (mask != null) {
+            return mask;
+        }
+        mask = compute(selector);
+        if (entries.putIfAbsent(key, mask) == null) {
+            order.add(key);
+            evict();
+        }
+        return mask;
+    }
+
+    /**
+     * 超过上限时按加入顺序淘汰，只在未命中时调用
+     */
+    private void evict() {
+        while (entries.size() > MAX_SIZE) {
+            Object eldest = order.poll();
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest);
+        }
+    }
+
+    /**
+     * 查询用的 key，不创建对象，不可缓存时返回 null
+     */
+    private static Object lookupKey(FilterSelector selector) {
+        if (selector instanceof IndexedFilterSelector) {
+            return selector;
+        }
+        Class<?> type = selector.getClass();
+        if (type == MatchAllFilterSelector.class || type == DummyFilterSelector.class) {
+            return type;
+        }
+        return null;
+    }
+
+    private BitSet compute(FilterSelector selector) {
+        BitSet mask = new BitSet(filterNames.length);
+        for (int i = 0; i < filterNames.length; i++) {
+            if (selector.matchFilter(filterNames[i])) {
+                mask.set(i);
+            }
+        }
+        return mask;
+    }
+}
@@ -10,10 +10,12 @@ import java.util.Map;
  * FilterSelector 工厂
  * <p>
  * 根据业务提供的 filter-selectors Map 创建对应的 FilterSelector：
- * - YAML 有 filter 列表 → LocalListFilterSelector（精确启用）
+ * - YAML 有 filter 列表 → IndexedFilterSelector（精确启用）
  * - YAML 值为 [on] → MatchAllFilterSelector（全部启用）
  * - YAML 值为 [off] → DummyFilterSelector（全部禁用）
  * - YAML 无此 type 配置 → 抛出 ExtensionException
+ * <p>
+ * 返回的 selector 均不可变且被复用，相同配置多次创建得到同一实例
  *
  * @author Cade Li
  * @since 2026/6/28
@@ -23,6 +25,9 @@ public final class FilterSelectorFactory {
     private static final List<String> ON = List.of("on");
     private static final List<String> OFF = List.of("off");
 
+    private static final FilterSelector MATCH_ALL = new MatchAllFilterSelector();
+    private static final FilterSelector DUMMY = new DummyFilterSelector();
+
     private FilterSelectorFactory() {
     }
 
@@ -42,11 +47,11 @@ public final class FilterSelectorFactory {
             throw new ExtensionException("No pipeline selector config for type '{}'", typeName);
         }
         if (enabledNames.equals(ON)) {
-            return new MatchAllFilterSelector();
+            return MATCH_ALL;
         }
         if (enabledNames.equals(OFF)) {
-            return new DummyFilterSelector();
+            return DUMMY;
         }
-        return new LocalListFilterSelector(enabledNames);
+        return IndexedFilterSelector.of(enabledNames);
     }
 }
@@ -0,0 +1,127 @@
+package com.github.cadecode.xboot.common.extension.pipeline.selector;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.exception.ExtensionException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 可刷新的 FilterSelector 注册表
+ * <p>
+ * 从 filter-selectors 配置编译出所有 type 的 selector，保存为不可变快照，读取时无锁；
+ * refresh 重新读取配置并整体替换快照，执行中的 context 持有旧 selector 不受影响，新创建的 context 立即使用新配置；
+ * 配置来源返回 null 时视为空配置，未配置 filter-selectors 的模块可正常启动，getSelector 时才抛出异常
+ * <p>
+ * selector 均不可变，新快照中的 selector 是新的实例，执行计划的 selector 缓存无需失效
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Slf4j
+public class FilterSelectorRegistry {
+
+    /**
+     * filter-selectors 配置来源，如 FilterSelectorBinder.source，每次 refresh 调用一次
+     */
+    private final Supplier<Map<String, List<String>>> source;
+
+    /**
+     * 编译前校验配置，抛出异常时保留原快照，如检查 filter 名称是否存在
+     */
+    private final Consumer<Map<String, List<String>>> validator;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+
+    public FilterSelectorRegistry(Supplier<Map<String, List<String>>> source) {
+        this(source, config -> {
+        });
+    }
+
+    public FilterSelectorRegistry(Supplier<Map<String, List<String>>> source,
+                                  Consumer<Map<String, List<String>>> validator) {
+        this.source = source;
+        this.validator = validator;
+        refresh();
+    }
+
+    /**
+     * 获取 type 对应的 selector
+     *
+     * @param type 业务类型
+     * @throws ExtensionException 如果 type 未在配置中找到
+     */
+    public FilterSelector getSelector(ExtensionType type) {
+        return getSelector(type.getType());
+    }
+
+    /**
+     * 获取 typeName 对应的 selector
+     *
+     * @param typeName ExtensionType.getType() 值
+     * @throws ExtensionException 如果 type 未在配置中找到
+     */
+    public FilterSelector getSelector(String typeName) {
+        FilterSelector selector = snapshot.selectors.get(typeName);
+        if (selector == null) {
+            throw new ExtensionException("No pipeline selector config for type '{}'", typeName);
+        }
+        return selector;
+    }
+
+    /**
+     * 当前生效的 filter-selectors 配置
+     */
+    public Map<String, List<String>> getFilterSelectors() {
+        return snapshot.config;
+    }
+
+    /**
+     * 当前生效的 selector
+     */
+    public Map<String, FilterSelector> getSelectors() {
+        return snapshot.selectors;
+    }
+
+    /**
+     * 重新读取配置并替换快照，配置未变化时不替换
+     * <p>
+     * 校验或任一 type 编译失败时保留原快照并抛出异常
+     *
+     * @return 配置是否变化
+     */
+    public synchronized boolean refresh() {
+        Map<String, List<String>> config = copyOf(source.get());
+        Snapshot curr = snapshot;
+        if (curr.config.equals(config)) {
+            return false;
+        }
+        validator.accept(config);
+        Map<String, FilterSelector> selectors = new HashMap<>(config.size());
+        config.forEach((typeName, names) ->
+                selectors.put(typeName, FilterSelectorFactory.createFilterSelector(typeName, config)));
+        snapshot = new Snapshot(config, Map.copyOf(selectors));
+        log.info("Pipeline filter-selectors refreshed, types: {}", config.keySet());
+        return true;
+    }
+
+    private static Map<String, List<String>> copyOf(Map<String, List<String>> config) {
+        if (Objects.isNull(config)) {
+            return Map.of();
+        }
+        Map<String, List<String>> copy = new HashMap<>(config.size());
+        config.forEach((typeName, names) -> copy.put(typeName, Objects.isNull(names) ? List.of() : List.copyOf(names)));
+        return Map.copyOf(copy);
+    }
+
+    /**
+     * 配置与编译结果的不可变快照，二者一同替换
+     */
+    private record Snapshot(Map<String, List<String>> config, Map<String, FilterSelector> selectors) {
+    }
+}
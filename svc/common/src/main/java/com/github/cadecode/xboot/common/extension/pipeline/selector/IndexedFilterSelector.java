@@ -0,0 +1,91 @@
+package com.github.cadecode.xboot.common.extension.pipeline.selector;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 不可变的 filter 列表选择器
+ * <p>
+ * 启用的 filter 名称保存为不可变 Set，matchFilter 为一次哈希查找，不创建对象。
+ * 通过 of 方法创建，相同的 filter 列表返回同一实例，可直接命中执行计划的 selector 缓存；
+ * 驻留表只弱引用实例，刷新配置后不再使用的 selector 可被回收，驻留表随之清理
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public final class IndexedFilterSelector implements FilterSelector {
+
+    private static final Map<List<String>, InternedRef> INTERNED = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<IndexedFilterSelector> RECLAIMED = new ReferenceQueue<>();
+
+    private final List<String> filterNames;
+
+    private final Set<String> enabled;
+
+    private IndexedFilterSelector(List<String> filterNames) {
+        this.filterNames = filterNames;
+        this.enabled = Set.copyOf(filterNames);
+    }
+
+    /**
+     * 获取启用指定 filter 列表的选择器
+     *
+     * @param filterNames 启用的 filter 名称列表
+     * @return 驻留的选择器实例
+     */
+    public static IndexedFilterSelector of(List<String> filterNames) {
+        // List 的 equals/hashCode 与实现无关，命中时不复制入参
+        InternedRef ref = INTERNED.get(filterNames);
+        IndexedFilterSelector selector = ref != null ? ref.get() : null;
+        if (selector != null) {
+            return selector;
+        }
+        expungeReclaimed();
+        IndexedFilterSelector[] result = new IndexedFilterSelector[1];
+        INTERNED.compute(List.copyOf(filterNames), (key, curr) -> {
+            IndexedFilterSelector live = curr != null ? curr.get() : null;
+            if (live != null) {
+                result[0] = live;
+                return curr;
+            }
+            result[0] = new IndexedFilterSelector(key);
+            return new InternedRef(key, result[0]);
+        });
+        return result[0];
+    }
+
+    /**
+     * 移除已被回收的实例对应的驻留项
+     */
+    private static void expungeReclaimed() {
+        InternedRef ref;
+        while ((ref = (InternedRef) RECLAIMED.poll()) != null) {
+            INTERNED.remove(ref.key, ref);
+        }
+    }
+
+    @Override
+    public boolean matchFilter(String currFilterName) {
+        return currFilterName != null && enabled.contains(currFilterName);
+    }
+
+    @Override
+    public List<String> getFilterNames() {
+        return filterNames;
+    }
+
+    private static final class InternedRef extends WeakReference<IndexedFilterSelector> {
+
+        private final List<String> key;
+
+        private InternedRef(List<String> key, IndexedFilterSelector selector) {
+            super(selector, RECLAIMED);
+            this.key = key;
+        }
+    }
+}
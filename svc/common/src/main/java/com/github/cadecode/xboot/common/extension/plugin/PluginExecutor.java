@@ -1,6 +1,14 @@
 package com.github.cadecode.xboot.common.extension.plugin;
 
+import com.github.cadecode.xboot.common.exception.ExtensionException;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -20,4 +28,120 @@ public interface PluginExecutor {
 
     <R, S extends PluginService> List<R> submitAll(Class<S> clazz, PluginContext context, Function<S, R> function);
 
+    /**
+     * 按优先级依次执行匹配的插件，返回第一个非 null 的结果，没有插件处理时为空，插件抛出异常时直接抛出
+     * <p>默认基于 executeAll 实现，第一个非 null 结果之后的插件不再调用，但仍会被选择
+     */
+    default <R, S extends PluginService> Optional<R> submitFirst(Class<S> clazz, PluginContext context, Function<S, R> function) {
+        AtomicReference<R> result = new AtomicReference<>();
+        AtomicBoolean invoked = new AtomicBoolean();
+        try {
+            executeAll(clazz, context, service -> {
+                if (result.get() == null) {
+                    invoked.set(true);
+                    result.set(function.apply(service));
+                }
+            });
+        } catch (ExtensionException e) {
+            // 未调用任何插件时为未找到插件，与没有插件处理一致
+            if (invoked.get()) {
+                throw e;
+            }
+        }
+        return Optional.ofNullable(result.get());
+    }
+
+    /**
+     * 前 raceSize 个插件竞速的 submitFirst，默认不竞速，依次执行
+     */
+    default <R, S extends PluginService> Optional<R> submitFirst(Class<S> clazz, PluginContext context, Function<S, R> function,
+                                                                 int raceSize) {
+        return submitFirst(clazz, context, function);
+    }
+
+    /**
+     * 执行匹配的所有插件，按插件顺序返回每个插件的结果，单个插件失败不影响其他插件
+     * <p>默认基于 submitAllParallel 实现
+     */
+    default <S extends PluginService> List<PluginResult<Void>> executeAllParallel(Class<S> clazz, PluginContext context,
+                                                                                  Consumer<S> consumer) {
+        return submitAllParallel(clazz, context, service -> {
+            consumer.accept(service);
+            return null;
+        });
+    }
+
+    /**
+     * 执行匹配的所有插件，按插件顺序返回每个插件的结果，单个插件失败不影响其他插件
+     * <p>默认基于 executeAll 在调用线程中依次执行，PluginSelectorExecutor 在线程池中并发执行
+     */
+    default <R, S extends PluginService> List<PluginResult<R>> submitAllParallel(Class<S> clazz, PluginContext context,
+                                                                                 Function<S, R> function) {
+        List<PluginResult<R>> results = new ArrayList<>();
+        executeAll(clazz, context, service -> {
+            try {
+                results.add(PluginResult.success(service, function.apply(service)));
+            } catch (RuntimeException e) {
+                results.add(PluginResult.failure(service, e));
+            }
+        });
+        return results;
+    }
+
+    /**
+     * 异步执行匹配的第一个插件，不需要返回值
+     * <p>默认基于 submitAsync 实现
+     */
+    default <S extends PluginService> CompletableFuture<Void> executeAsync(Class<S> clazz, PluginContext context,
+                                                                           Function<S, ? extends CompletionStage<?>> function) {
+        return this.<Void, S>submitAsync(clazz, context, service -> function.apply(service).thenApply(v -> null));
+    }
+
+    /**
+     * 异步执行匹配的所有插件，不需要返回值
+     * <p>默认基于 submitAllAsync 实现
+     */
+    default <S extends PluginService> CompletableFuture<Void> executeAllAsync(Class<S> clazz, PluginContext context,
+                                                                              Function<S, ? extends CompletionStage<?>> function) {
+        return this.<Void, S>submitAllAsync(clazz, context, service -> function.apply(service).thenApply(v -> null))
+                .thenApply(results -> null);
+    }
+
+    /**
+     * 异步执行匹配的第一个插件，需要返回值，未找到插件或插件抛出异常时返回失败的 CompletableFuture
+     * <p>默认基于 submit 在调用线程中发起调用
+     */
+    default <R, S extends PluginService> CompletableFuture<R> submitAsync(Class<S> clazz, PluginContext context,
+                                                                          Function<S, ? extends CompletionStage<R>> function) {
+        try {
+            CompletionStage<R> stage = submit(clazz, context, function::apply);
+            return stage.<R>thenApply(Function.identity()).toCompletableFuture();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 异步执行匹配的所有插件，需要返回值，按插件顺序组合结果，任一插件失败时以插件顺序中第一个异常失败
+     * <p>默认基于 submitAll 在调用线程中依次发起调用
+     */
+    default <R, S extends PluginService> CompletableFuture<List<R>> submitAllAsync(Class<S> clazz, PluginContext context,
+                                                                                   Function<S, ? extends CompletionStage<R>> function) {
+        List<CompletionStage<R>> stages;
+        try {
+            stages = submitAll(clazz, context, function::apply);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        // thenCombine 等待前后两个结果都完成，先组合的插件的异常优先
+        CompletableFuture<List<R>> result = CompletableFuture.completedFuture(new ArrayList<>(stages.size()));
+        for (CompletionStage<R> stage : stages) {
+            result = result.thenCombine(stage, (values, value) -> {
+                values.add(value);
+                return values;
+            });
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,233 @@
+package com.github.cadecode.xboot.common.extension.plugin;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 插件索引
+ * <p>
+ * 按 PluginService 子类型与业务类型对插件分组，选择时只遍历候选插件：
+ * TypedPluginService 按声明的业务类型直接命中，其余插件仍调用 supports 判断，结果保持注册表中的顺序
+ * <p>
+ * 子类型视图在首次按该类型选择时创建并缓存，可被多线程共享
+ * <p>
+ * 开启选择缓存时，候选插件均为 TypedPluginService 或标记了 TypeOnlySupports 的业务类型，
+ * 按 (PluginService 子类型, 业务类型) 缓存选择结果，插件变化时创建新的索引代替
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public final class PluginIndex {
+
+    private static final Candidate[] EMPTY = new Candidate[0];
+
+    /**
+     * 每个子类型视图最多缓存的业务类型数量，超出后不再缓存
+     */
+    private static final int MAX_CACHED_TYPES = 1024;
+
+    private final List<PluginService> plugins;
+
+    private final boolean selectCache;
+
+    /**
+     * PluginService 子类型 → 候选插件视图
+     */
+    private final ConcurrentHashMap<Class<?>, View> views = new ConcurrentHashMap<>();
+
+    /**
+     * @param plugins 注册表中的插件，按优先级排序
+     */
+    public PluginIndex(List<? extends PluginService> plugins) {
+        this(plugins, false);
+    }
+
+    /**
+     * @param plugins     注册表中的插件，按优先级排序
+     * @param selectCache 是否缓存 supports 只取决于业务类型的选择结果
+     */
+    public PluginIndex(List<? extends PluginService> plugins, boolean selectCache) {
+        this.plugins = List.copyOf(plugins);
+        this.selectCache = selectCache;
+    }
+
+    public int size() {
+        return plugins.size();
+    }
+
+    /**
+     * 选择第一个匹配的插件
+     *
+     * @param clazz   PluginService 子类型
+     * @param context 插件上下文
+     */
+    @SuppressWarnings("unchecked")
+    public <S> Optional<S> selectFirst(Class<S> clazz, PluginContext context) {
+        View view = view(clazz);
+        List<PluginService> cached = view.cached(context);
+        if (cached != null) {
+            return cached.isEmpty() ? Optional.empty() : Optional.of((S) cached.get(0));
+        }
+        for (Candidate candidate : view.candidates(context.getPluginType())) {
+            if (candidate.typed() || candidate.plugin().supports(context)) {
+                return Optional.of((S) candidate.plugin());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 选择所有匹配的插件
+     *
+     * @param clazz   PluginService 子类型
+     * @param context 插件上下文
+     */
+    @SuppressWarnings("unchecked")
+    public <S> List<S> selectAll(Class<S> clazz, PluginContext context) {
+        View view = view(clazz);
+        List<PluginService> cached = view.cached(context);
+        if (cached != null) {
+            return new ArrayList<>((List<S>) cached);
+        }
+        return select(view.candidates(context.getPluginType()), context);
+    }
+
+    /**
+     * 按优先级依次返回匹配的插件，supports 在遍历到该插件时才调用，调用方停止遍历后不再判断后续插件
+     *
+     * @param clazz   PluginService 子类型
+     * @param context 插件上下文
+     */
+    @SuppressWarnings("unchecked")
+    public <S> Iterator<S> iterate(Class<S> clazz, PluginContext context) {
+        View view = view(clazz);
+        List<PluginService> cached = view.cached(context);
+        if (cached != null) {
+            return (Iterator<S>) cached.iterator();
+        }
+        Candidate[] candidates = view.candidates(context.getPluginType());
+        return new Iterator<>() {
+
+            private int index;
+
+            private S next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && index < candidates.length) {
+                    Candidate candidate = candidates[index++];
+                    if (candidate.typed() || candidate.plugin().supports(context)) {
+                        next = (S) candidate.plugin();
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public S next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                S result = next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S> List<S> select(Candidate[] candidates, PluginContext context) {
+        List<S> result = new ArrayList<>(candidates.length);
+        for (Candidate candidate : candidates) {
+            if (candidate.typed() || candidate.plugin().supports(context)) {
+                result.add((S) candidate.plugin());
+            }
+        }
+        return result;
+    }
+
+    private View view(Class<?> clazz) {
+        View view = views.get(clazz);
+        if (view == null) {
+            view = views.computeIfAbsent(clazz, this::createView);
+        }
+        return view;
+    }
+
+    private View createView(Class<?> clazz) {
+        List<PluginService> matched = plugins.stream()
+                .filter(clazz::isInstance)
+                .toList();
+        Set<ExtensionType> types = new LinkedHashSet<>();
+        for (PluginService plugin : matched) {
+            if (plugin instanceof TypedPluginService typed) {
+                types.addAll(typed.getPluginTypes());
+            }
+        }
+        // 未声明业务类型的插件出现在每个业务类型的候选中
+        Candidate[] untyped = matched.stream()
+                .filter(o -> !(o instanceof TypedPluginService))
+                .map(o -> new Candidate(o, false))
+                .toArray(Candidate[]::new);
+        boolean cacheable = selectCache && matched.stream()
+                .allMatch(o -> o instanceof TypedPluginService || o.getClass().isAnnotationPresent(TypeOnlySupports.class));
+        Map<ExtensionType, Candidate[]> byType = new HashMap<>();
+        for (ExtensionType type : types) {
+            List<Candidate> candidates = new ArrayList<>();
+            for (PluginService plugin : matched) {
+                if (!(plugin instanceof TypedPluginService typed)) {
+                    candidates.add(new Candidate(plugin, false));
+                } else if (typed.getPluginTypes().contains(type)) {
+                    candidates.add(new Candidate(plugin, true));
+                }
+            }
+            byType.put(type, candidates.toArray(EMPTY));
+        }
+        return new View(Collections.unmodifiableMap(byType), untyped, cacheable ? new ConcurrentHashMap<>() : null);
+    }
+
+    private record Candidate(PluginService plugin, boolean typed) {
+    }
+
+    /**
+     * @param byType  业务类型 → 候选插件
+     * @param untyped 未声明业务类型的候选插件
+     * @param cache   业务类型 → 选择结果，不可缓存时为 null
+     */
+    private record View(Map<ExtensionType, Candidate[]> byType, Candidate[] untyped,
+                        ConcurrentHashMap<ExtensionType, List<PluginService>> cache) {
+
+        Candidate[] candidates(ExtensionType type) {
+            Candidate[] candidates = type != null ? byType.get(type) : null;
+            return candidates != null ? candidates : untyped;
+        }
+
+        /**
+         * 获取缓存的选择结果，业务类型首次访问时以当前 context 计算，不可缓存时返回 null
+         */
+        List<PluginService> cached(PluginContext context) {
+            ExtensionType type = context.getPluginType();
+            if (cache == null || type == null) {
+                return null;
+            }
+            List<PluginService> result = cache.get(type);
+            if (result != null || cache.size() >= MAX_CACHED_TYPES) {
+                return result;
+            }
+            result = List.copyOf(PluginIndex.<PluginService>select(candidates(type), context));
+            cache.putIfAbsent(type, result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.cadecode.xboot.common.extension.plugin;
+
+/**
+ * 单个插件的执行结果
+ * <p>并行执行时每个插件对应一个结果，成功时 error 为 null，失败或超时时 value 为 null
+ *
+ * @param plugin 插件
+ * @param value  返回值
+ * @param error  异常，超时为 PluginTimeoutException
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public record PluginResult<R>(PluginService plugin, R value, Throwable error) {
+
+    public static <R> PluginResult<R> success(PluginService plugin, R value) {
+        return new PluginResult<>(plugin, value, null);
+    }
+
+    public static <R> PluginResult<R> failure(PluginService plugin, Throwable error) {
+        return new PluginResult<>(plugin, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
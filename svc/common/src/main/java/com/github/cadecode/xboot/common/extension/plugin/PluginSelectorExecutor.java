@@ -1,29 +1,115 @@
 package com.github.cadecode.xboot.common.extension.plugin;
 
 import cn.hutool.core.util.ObjUtil;
+import com.github.cadecode.xboot.common.enums.ExtensionType;
 import com.github.cadecode.xboot.common.exception.ExtensionException;
-import lombok.RequiredArgsConstructor;
+import com.github.cadecode.xboot.common.exception.PluginTimeoutException;
+import com.github.cadecode.xboot.common.extension.plugin.monitor.PluginMonitor;
+import com.github.cadecode.xboot.common.util.ThreadContextSnapshot;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.plugin.core.PluginRegistry;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 插件执行器
+ * <p>首次选择时由 pluginRegistry 创建 PluginIndex，之后按 PluginService 子类型与业务类型查找候选插件
+ * <p>开启选择缓存时，supports 只取决于业务类型的选择结果按 (PluginService 子类型, 业务类型) 缓存，插件变化后调用 refresh 重建
+ * <p>executeAllParallel / submitAllParallel 在 parallelExecutor 中并发执行匹配的插件，并发数不超过 maxConcurrency，
+ * 整体等待不超过 parallelTimeout，按插件顺序返回每个插件的结果或异常
+ * <p>submitFirst 按 @Order 依次执行插件，返回第一个非 null 的结果，可指定前 k 个插件并发竞速
+ * <p>设置 PluginMonitor 后记录每次选择与调用的耗时及异常
+ * <p>executeAsync / submitAsync 等异步方法只选择一次插件，由插件返回 CompletionStage，组合结果时不阻塞调用线程；
+ * 开启 propagateContext 时，返回的 CompletableFuture 在调用线程的 MDC 与 TransmittableThreadLocal 上下文中完成，
+ * 并行执行的插件也在该上下文中运行
  *
  * @author Cade Li
  * @since 2023/6/23
  */
 @Slf4j
-@RequiredArgsConstructor
 public class PluginSelectorExecutor extends AbstractPluginExecutor {
 
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    public static final Duration DEFAULT_PARALLEL_TIMEOUT = Duration.ofSeconds(10);
+
     private final PluginRegistry<PluginService, PluginContext> pluginRegistry;
 
+    /**
+     * 是否开启选择缓存
+     */
+    private final boolean selectCache;
+
+    /**
+     * 插件索引，首次使用时创建，避免在注册表中的插件 bean 创建完成前读取
+     */
+    private volatile PluginIndex pluginIndex;
+
+    /**
+     * 选择与调用插件的监控
+     */
+    private volatile PluginMonitor monitor = PluginMonitor.NOOP;
+
+    /**
+     * 并行执行使用的线程池，为 null 时在调用线程中依次执行
+     */
+    @Setter
+    private Executor parallelExecutor;
+
+    /**
+     * 单次并行执行的最大并发数
+     */
+    @Setter
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * 单次并行执行的整体超时时间，为 null 时不限制
+     */
+    @Setter
+    private Duration parallelTimeout = DEFAULT_PARALLEL_TIMEOUT;
+
+    /**
+     * 是否将调用线程的 MDC 与 TransmittableThreadLocal 传递到并行执行的插件与异步回调
+     */
+    @Setter
+    private boolean propagateContext = true;
+
+    public PluginSelectorExecutor(PluginRegistry<PluginService, PluginContext> pluginRegistry) {
+        this(pluginRegistry, false);
+    }
+
+    /**
+     * @param pluginRegistry 插件注册表
+     * @param selectCache    是否缓存 supports 只取决于业务类型的选择结果
+     */
+    public PluginSelectorExecutor(PluginRegistry<PluginService, PluginContext> pluginRegistry, boolean selectCache) {
+        this.pluginRegistry = pluginRegistry;
+        this.selectCache = selectCache;
+    }
 
     /**
      * 执行匹配的第一个插件，不需要返回值
@@ -36,7 +122,7 @@ public class PluginSelectorExecutor extends AbstractPluginExecutor {
     public <S extends PluginService> void execute(Class<S> clazz, PluginContext context, Consumer<S> consumer) {
         Optional<S> serviceOpt = selectService(clazz, context);
         if (serviceOpt.isPresent()) {
-            consumer.accept(serviceOpt.get());
+            monitored(clazz, context, asFunction(consumer)).apply(serviceOpt.get());
             return;
         }
         throw new ExtensionException("Strategy service not found, {}, {}", clazz, context.getPluginType());
@@ -53,7 +139,8 @@ public class PluginSelectorExecutor extends AbstractPluginExecutor {
     public <S extends PluginService> void executeAll(Class<S> clazz, PluginContext context, Consumer<S> consumer) {
         List<S> services = selectServices(clazz, context);
         if (ObjUtil.isNotEmpty(services)) {
-            services.forEach(consumer);
+            Function<S, Void> function = monitored(clazz, context, asFunction(consumer));
+            services.forEach(function::apply);
             return;
         }
         throw new ExtensionException("Strategy service not found, {}, {}", clazz, context.getPluginType());
@@ -71,7 +158,7 @@ public class PluginSelectorExecutor extends AbstractPluginExecutor {
     public <R, S extends PluginService> R submit(Class<S> clazz, PluginContext context, Function<S, R> function) {
         Optional<S> serviceOpt = selectService(clazz, context);
         if (serviceOpt.isPresent()) {
-            return function.apply(serviceOpt.get());
+            return monitored(clazz, context, function).apply(serviceOpt.get());
         }
         throw new ExtensionException("Strategy service not found, {}, {}", clazz, context.getPluginType());
     }
@@ -89,27 +176,431 @@ public class PluginSelectorExecutor extends AbstractPluginExecutor {
         List<S> services = selectServices(clazz, context);
         if (ObjUtil.isNotEmpty(services)) {
             return services.stream()
-                    .map(function)
+                    .map(monitored(clazz, context, function))
                     .collect(Collectors.toList());
         }
         throw new ExtensionException("Strategy service not found, {}, {}", clazz, context.getPluginType());
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * 按优先级依次执行匹配的插件，返回第一个非 null 的结果
+     * <p>插件按 @Order 排序，某个插件返回非 null 后不再判断和执行后续插件；插件抛出异常时直接抛出
+     *
+     * @param clazz    PluginService 实现类
+     * @param context  扩展上下文
+     * @param function function，返回 null 表示未处理，交给下一个插件
+     * @return 第一个非 null 的结果，没有插件处理时为空
+     */
+    @Override
+    public <R, S extends PluginService> Optional<R> submitFirst(Class<S> clazz, PluginContext context, Function<S, R> function) {
+        return submitFirst(clazz, context, function, 1);
+    }
+
+    /**
+     * 按优先级执行匹配的插件，返回第一个非 null 的结果，前 raceSize 个插件在 parallelExecutor 中竞速
+     * <p>竞速插件中最先返回非 null 的结果胜出，其余插件被中断；竞速插件均未处理、失败或超过 parallelTimeout 时，后续插件依次执行。
+     * 没有插件处理时：竞速中出现过异常或超时则抛出第一个异常（超时为 PluginTimeoutException），否则返回空
+     *
+     * @param clazz    PluginService 实现类
+     * @param context  扩展上下文
+     * @param function function，返回 null 表示未处理
+     * @param raceSize 竞速的插件数量，小于等于 1 或未配置 parallelExecutor 时依次执行
+     * @return 第一个非 null 的结果，没有插件处理时为空
+     */
+    @Override
+    public <R, S extends PluginService> Optional<R> submitFirst(Class<S> clazz, PluginContext context, Function<S, R> function,
+                                                                int raceSize) {
+        Iterator<S> services = getPluginIndex().iterate(clazz, context);
+        Function<S, R> monitoredFunction = monitored(clazz, context, function);
+        RuntimeException raceError = null;
+        if (raceSize > 1 && parallelExecutor != null) {
+            List<S> racers = new ArrayList<>(raceSize);
+            while (racers.size() < raceSize && services.hasNext()) {
+                racers.add(services.next());
+            }
+            RaceResult<R> race = race(racers, monitoredFunction);
+            if (race.value() != null) {
+                return Optional.of(race.value());
+            }
+            raceError = race.error();
+        }
+        while (services.hasNext()) {
+            R result = monitoredFunction.apply(services.next());
+            if (result != null) {
+                return Optional.of(result);
+            }
+        }
+        if (raceError != null) {
+            throw raceError;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 并发执行竞速插件，返回第一个非 null 的结果，均未处理时返回第一个异常或超时
+     */
+    private <R, S extends PluginService> RaceResult<R> race(List<S> racers, Function<S, R> function) {
+        CompletionService<R> completionService = new ExecutorCompletionService<>(parallelExecutor);
+        List<Future<R>> futures = new ArrayList<>(racers.size());
+        long timeoutNanos = parallelTimeout != null ? parallelTimeout.toNanos() : 0L;
+        long deadline = System.nanoTime() + timeoutNanos;
+        ThreadContextSnapshot snapshot = captureContext();
+        RuntimeException error = null;
+        try {
+            for (S racer : racers) {
+                try {
+                    futures.add(completionService.submit(snapshot.wrapCallable(() -> function.apply(racer))));
+                } catch (RejectedExecutionException e) {
+                    // 线程池已满时在调用线程中执行，异常与线程池中的竞速插件一样记录，继续处理其余插件
+                    try {
+                        R result = function.apply(racer);
+                        if (result != null) {
+                            return new RaceResult<>(result, null);
+                        }
+                    } catch (RuntimeException ex) {
+                        if (error == null) {
+                            error = ex;
+                        }
+                    }
+                }
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Future<R> future = timeoutNanos > 0L
+                        ? completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+                        : completionService.take();
+                if (future == null) {
+                    // 超时后放弃未完成的竞速插件，交给后续插件
+                    if (error == null) {
+                        error = new PluginTimeoutException("Plugin race not completed within {}ms", parallelTimeout.toMillis());
+                    }
+                    break;
+                }
+                try {
+                    R result = future.get();
+                    if (result != null) {
+                        return new RaceResult<>(result, null);
+                    }
+                } catch (ExecutionException e) {
+                    if (error == null) {
+                        error = e.getCause() instanceof RuntimeException re
+                                ? re
+                                : new ExtensionException("Plugin race fail", e.getCause());
+                    }
+                }
+            }
+            return new RaceResult<>(null, error);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExtensionException("Plugin race interrupted", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private record RaceResult<R>(R value, RuntimeException error) {
+    }
+
+    /**
+     * 并行执行匹配的所有插件，需要返回值
+     *
+     * @param clazz    PluginService 实现类
+     * @param context  扩展上下文
+     * @param function function
+     * @return 按插件顺序排列的执行结果，单个插件失败不影响其他插件，超时未完成的插件为 PluginTimeoutException
+     */
+    @Override
+    public <R, S extends PluginService> List<PluginResult<R>> submitAllParallel(Class<S> clazz, PluginContext context, Function<S, R> function) {
+        List<S> services = selectServices(clazz, context);
+        if (ObjUtil.isEmpty(services)) {
+            throw new ExtensionException("Strategy service not found, {}, {}", clazz, context.getPluginType());
+        }
+        return invokeAll(services, monitored(clazz, context, function));
+    }
+
+    /**
+     * 启动不超过 maxConcurrency 个 worker，每个 worker 依次领取下一个插件执行，结果写入插件对应的位置
+     * <p>线程池拒绝时不再提交 worker，剩余插件由已提交的 worker 领取；没有 worker 被接受时，所有插件记为 RejectedExecutionException，
+     * 不在调用线程中执行
+     */
+    private <R, S extends PluginService> List<PluginResult<R>> invokeAll(List<S> services, Function<S, R> function) {
+        int size = services.size();
+        long timeoutNanos = parallelTimeout != null ? parallelTimeout.toNanos() : 0L;
+        long deadline = System.nanoTime() + timeoutNanos;
+        AtomicReferenceArray<PluginResult<R>> results = new AtomicReferenceArray<>(size);
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(size);
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+                S service = services.get(i);
+                PluginResult<R> result;
+                if (timeoutNanos > 0L && System.nanoTime() - deadline >= 0L) {
+                    result = PluginResult.failure(service, timeout(service, timeoutNanos));
+                } else {
+                    try {
+                        result = PluginResult.success(service, function.apply(service));
+                    } catch (Throwable e) {
+                        result = PluginResult.failure(service, e);
+                    }
+                }
+                results.compareAndSet(i, null, result);
+                done.countDown();
+            }
+        };
+        List<FutureTask<Void>> workers = new ArrayList<>();
+        if (parallelExecutor == null || size == 1) {
+            worker.run();
+        } else {
+            int workerCount = Math.min(size, Math.max(1, maxConcurrency));
+            Runnable contextWorker = captureContext().wrap(worker);
+            for (int k = 0; k < workerCount; k++) {
+                FutureTask<Void> task = new FutureTask<>(contextWorker, null);
+                try {
+                    parallelExecutor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    if (workers.isEmpty()) {
+                        return rejected(services, e);
+                    }
+                    break;
+                }
+                workers.add(task);
+            }
+        }
+        await(done, timeoutNanos, deadline);
+        // 先将未完成的插件记为超时，再中断仍在执行的 worker，被中断的插件返回的结果不会覆盖超时
+        List<PluginResult<R>> resultList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (results.get(i) == null) {
+                results.compareAndSet(i, null, PluginResult.failure(services.get(i), timeout(services.get(i), timeoutNanos)));
+            }
+            resultList.add(results.get(i));
+        }
+        workers.forEach(task -> task.cancel(true));
+        return resultList;
+    }
+
+    private static <R> List<PluginResult<R>> rejected(List<? extends PluginService> services, RejectedExecutionException e) {
+        List<PluginResult<R>> resultList = new ArrayList<>(services.size());
+        for (PluginService service : services) {
+            resultList.add(PluginResult.failure(service, e));
+        }
+        return resultList;
+    }
+
+    private void await(CountDownLatch done, long timeoutNanos, long deadline) {
+        try {
+            if (timeoutNanos <= 0L) {
+                done.await();
+            } else {
+                done.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PluginTimeoutException timeout(PluginService service, long timeoutNanos) {
+        return new PluginTimeoutException("Plugin [{}] not completed within {}ms",
+                service.getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+    }
+
+    /**
+     * 异步执行匹配的第一个插件，需要返回值
+     *
+     * @param clazz    PluginService 实现类
+     * @param context  扩展上下文
+     * @param function function，返回插件结果的 CompletionStage
+     * @return 插件结果的 CompletableFuture，未找到插件时以 ExtensionException 失败
+     */
+    @Override
+    public <R, S extends PluginService> CompletableFuture<R> submitAsync(Class<S> clazz, PluginContext context,
+                                                                         Function<S, ? extends CompletionStage<R>> function) {
+        ThreadContextSnapshot snapshot = captureContext();
+        Optional<S> serviceOpt;
+        try {
+            serviceOpt = selectService(clazz, context);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (serviceOpt.isEmpty()) {
+            return CompletableFuture.failedFuture(
+                    new ExtensionException("Strategy service not found, {}, {}", clazz, context.getPluginType()));
+        }
+        return invokeAsync(clazz, context, serviceOpt.get(), function, snapshot);
+    }
+
+    /**
+     * 异步执行匹配的所有插件，需要返回值
+     * <p>所有插件先依次发起调用，再等待全部 CompletionStage 完成
+     *
+     * @param clazz    PluginService 实现类
+     * @param context  扩展上下文
+     * @param function function，返回插件结果的 CompletionStage
+     * @return 按插件顺序排列的结果的 CompletableFuture，任一插件失败时以插件顺序中第一个异常失败
+     */
+    @Override
+    public <R, S extends PluginService> CompletableFuture<List<R>> submitAllAsync(Class<S> clazz, PluginContext context,
+                                                                                  Function<S, ? extends CompletionStage<R>> function) {
+        ThreadContextSnapshot snapshot = captureContext();
+        List<S> services;
+        try {
+            services = selectServices(clazz, context);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (ObjUtil.isEmpty(services)) {
+            return CompletableFuture.failedFuture(
+                    new ExtensionException("Strategy service not found, {}, {}", clazz, context.getPluginType()));
+        }
+        List<CompletableFuture<R>> futures = new ArrayList<>(services.size());
+        for (S service : services) {
+            futures.add(invokeAsync(clazz, context, service, function, ThreadContextSnapshot.NONE));
+        }
+        CompletableFuture<List<R>> result = new CompletableFuture<>();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((v, e) -> snapshot.run(() -> completeAll(result, futures)));
+        return result;
+    }
+
+    /**
+     * 调用插件并在其 CompletionStage 完成时记录监控，返回的 CompletableFuture 在 snapshot 的上下文中完成，
+     * 使调用方注册的非 async 回调也运行在该上下文中
+     */
+    private <R, S extends PluginService> CompletableFuture<R> invokeAsync(Class<S> clazz, PluginContext context, S service,
+                                                                          Function<S, ? extends CompletionStage<R>> function,
+                                                                          ThreadContextSnapshot snapshot) {
+        PluginMonitor currMonitor = monitor;
+        ExtensionType type = context.getPluginType();
+        long start = System.nanoTime();
+        CompletionStage<R> stage;
+        try {
+            stage = Objects.requireNonNull(function.apply(service), "Plugin async function returned null");
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<R> future = new CompletableFuture<>();
+        stage.whenComplete((value, error) -> {
+            Throwable cause = unwrap(error);
+            if (currMonitor != PluginMonitor.NOOP) {
+                currMonitor.onInvoke(clazz, service, type, System.nanoTime() - start, cause);
+            }
+            snapshot.run(() -> {
+                if (cause == null) {
+                    future.complete(value);
+                } else {
+                    future.completeExceptionally(cause);
+                }
+            });
+        });
+        return future;
+    }
+
+    private static <R> void completeAll(CompletableFuture<List<R>> result, List<CompletableFuture<R>> futures) {
+        List<R> values = new ArrayList<>(futures.size());
+        for (CompletableFuture<R> future : futures) {
+            try {
+                values.add(future.join());
+            } catch (CompletionException | CancellationException e) {
+                result.completeExceptionally(unwrap(e));
+                return;
+            }
+        }
+        result.complete(values);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private ThreadContextSnapshot captureContext() {
+        return propagateContext ? ThreadContextSnapshot.capture() : ThreadContextSnapshot.NONE;
+    }
+
     @Override
     public <S> Optional<S> selectService(Class<S> clazz, PluginContext context) {
-        return (Optional<S>) pluginRegistry.getPlugins()
-                .stream()
-                .filter(o -> clazz.isAssignableFrom(o.getClass()) && o.supports(context))
-                .findFirst();
+        PluginMonitor currMonitor = monitor;
+        if (currMonitor == PluginMonitor.NOOP) {
+            return getPluginIndex().selectFirst(clazz, context);
+        }
+        long start = System.nanoTime();
+        Optional<S> service = getPluginIndex().selectFirst(clazz, context);
+        currMonitor.onSelect(clazz, context.getPluginType(), System.nanoTime() - start);
+        return service;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <S> List<S> selectServices(Class<S> clazz, PluginContext context) {
-        return (List<S>) pluginRegistry.getPlugins()
-                .stream()
-                .filter(o -> clazz.isAssignableFrom(o.getClass()) && o.supports(context))
-                .collect(Collectors.toList());
+        PluginMonitor currMonitor = monitor;
+        if (currMonitor == PluginMonitor.NOOP) {
+            return getPluginIndex().selectAll(clazz, context);
+        }
+        long start = System.nanoTime();
+        List<S> services = getPluginIndex().selectAll(clazz, context);
+        currMonitor.onSelect(clazz, context.getPluginType(), System.nanoTime() - start);
+        return services;
+    }
+
+    /**
+     * 设置监控，为 null 时不记录
+     */
+    public void setMonitor(PluginMonitor pluginMonitor) {
+        monitor = Objects.isNull(pluginMonitor) ? PluginMonitor.NOOP : pluginMonitor;
+    }
+
+    /**
+     * 未设置监控时直接返回 function，否则包装为记录调用耗时与异常的 function
+     */
+    private <R, S extends PluginService> Function<S, R> monitored(Class<S> clazz, PluginContext context, Function<S, R> function) {
+        PluginMonitor currMonitor = monitor;
+        if (currMonitor == PluginMonitor.NOOP) {
+            return function;
+        }
+        ExtensionType type = context.getPluginType();
+        return service -> {
+            long start = System.nanoTime();
+            Throwable error = null;
+            try {
+                return function.apply(service);
+            } catch (Throwable e) {
+                error = e;
+                throw e;
+            } finally {
+                currMonitor.onInvoke(clazz, service, type, System.nanoTime() - start, error);
+            }
+        };
+    }
+
+    private static <S> Function<S, Void> asFunction(Consumer<S> consumer) {
+        return service -> {
+            consumer.accept(service);
+            return null;
+        };
+    }
+
+    /**
+     * 获取插件索引，未创建时创建
+     */
+    public PluginIndex getPluginIndex() {
+        PluginIndex index = pluginIndex;
+        if (index != null) {
+            return index;
+        }
+        synchronized (this) {
+            if (pluginIndex == null) {
+                pluginIndex = new PluginIndex(pluginRegistry.getPlugins(), selectCache);
+                log.debug("Plugin index created with {} plugins", pluginIndex.size());
+            }
+            return pluginIndex;
+        }
+    }
+
+    /**
+     * 以新的插件列表重建索引，清空选择缓存
+     * <p>插件 bean 通过 SpringUtil.registerBean / unregisterBean 变化时由 PluginIndexRefresher 调用
+     *
+     * @param plugins 当前全部插件，按优先级排序
+     */
+    public synchronized void refresh(List<? extends PluginService> plugins) {
+        pluginIndex = new PluginIndex(plugins, selectCache);
+        log.info("Plugin index refreshed with {} plugins", plugins.size());
     }
 }
@@ -0,0 +1,23 @@
+package com.github.cadecode.xboot.common.extension.plugin;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 标记插件的 supports 只取决于 context 的业务类型
+ * <p>开启选择缓存时，候选插件均为 TypedPluginService 或标记了该注解时，
+ * 按 (PluginService 子类型, 业务类型) 缓存选择结果，之后不再调用 supports
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface TypeOnlySupports {
+}
@@ -0,0 +1,26 @@
+package com.github.cadecode.xboot.common.extension.plugin;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+
+import java.util.Collection;
+
+/**
+ * 按业务类型匹配的插件服务
+ * <p>supports 只取决于 context 的业务类型时实现该接口，声明支持的业务类型，
+ * PluginIndex 按业务类型建立索引，选择时直接查表，不再调用 supports
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public interface TypedPluginService extends PluginService {
+
+    /**
+     * 支持的业务类型，创建索引时读取，之后不应变化
+     */
+    Collection<? extends ExtensionType> getPluginTypes();
+
+    @Override
+    default boolean supports(PluginContext context) {
+        return getPluginTypes().contains(context.getPluginType());
+    }
+}
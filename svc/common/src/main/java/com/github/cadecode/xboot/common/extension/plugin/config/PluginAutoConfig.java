@@ -4,10 +4,17 @@ import com.github.cadecode.xboot.common.extension.plugin.PluginContext;
 import com.github.cadecode.xboot.common.extension.plugin.PluginExecutor;
 import com.github.cadecode.xboot.common.extension.plugin.PluginSelectorExecutor;
 import com.github.cadecode.xboot.common.extension.plugin.PluginService;
+import com.github.cadecode.xboot.common.extension.plugin.monitor.PluginMonitor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.plugin.core.config.EnablePluginRegistries;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.Executor;
 
 /**
  * 插件自动配置类
@@ -17,11 +24,29 @@ import org.springframework.plugin.core.config.EnablePluginRegistries;
  */
 // 启用 spring-plugin
 @EnablePluginRegistries({PluginService.class})
+@EnableConfigurationProperties(PluginProperties.class)
 @Configuration
 public class PluginAutoConfig {
 
     @Bean
-    public PluginExecutor pluginExecutor(PluginRegistry<PluginService, PluginContext> pluginRegistry) {
-        return new PluginSelectorExecutor(pluginRegistry);
+    public PluginExecutor pluginExecutor(PluginRegistry<PluginService, PluginContext> pluginRegistry,
+                                         PluginProperties properties,
+                                         ObjectProvider<PluginMonitor> pluginMonitor,
+                                         BeanFactory beanFactory) {
+        PluginSelectorExecutor executor = new PluginSelectorExecutor(pluginRegistry, properties.isSelectCache());
+        if (StringUtils.hasText(properties.getParallelExecutor())) {
+            executor.setParallelExecutor(beanFactory.getBean(properties.getParallelExecutor(), Executor.class));
+        }
+        executor.setMaxConcurrency(properties.getMaxConcurrency());
+        executor.setParallelTimeout(properties.getParallelTimeout());
+        executor.setPropagateContext(properties.isPropagateContext());
+        executor.setMonitor(pluginMonitor.getIfAvailable());
+        return executor;
+    }
+
+    @Bean
+    public PluginIndexRefresher pluginIndexRefresher(PluginExecutor pluginExecutor,
+                                                     ObjectProvider<PluginService> plugins) {
+        return new PluginIndexRefresher(pluginExecutor, plugins);
     }
 }
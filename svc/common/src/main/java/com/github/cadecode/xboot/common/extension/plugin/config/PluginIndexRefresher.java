@@ -0,0 +1,30 @@
+package com.github.cadecode.xboot.common.extension.plugin.config;
+
+import com.github.cadecode.xboot.common.extension.plugin.PluginExecutor;
+import com.github.cadecode.xboot.common.extension.plugin.PluginSelectorExecutor;
+import com.github.cadecode.xboot.common.extension.plugin.PluginService;
+import com.github.cadecode.xboot.common.util.SpringUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 插件 bean 通过 SpringUtil 动态注册或注销时，以容器中当前的插件重建 PluginSelectorExecutor 的索引与选择缓存
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@RequiredArgsConstructor
+public class PluginIndexRefresher {
+
+    private final PluginExecutor pluginExecutor;
+
+    private final ObjectProvider<PluginService> plugins;
+
+    @EventListener
+    public void onBeanChange(SpringUtil.BeanChangeEvent event) {
+        if (event.bean() instanceof PluginService && pluginExecutor instanceof PluginSelectorExecutor executor) {
+            executor.refresh(plugins.orderedStream().toList());
+        }
+    }
+}
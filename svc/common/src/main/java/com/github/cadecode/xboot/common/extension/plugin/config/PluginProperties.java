@@ -0,0 +1,43 @@
+package com.github.cadecode.xboot.common.extension.plugin.config;
+
+import com.github.cadecode.xboot.common.extension.plugin.PluginSelectorExecutor;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Plugin 配置项
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Data
+@ConfigurationProperties("x-boot.plugin")
+public class PluginProperties {
+
+    /**
+     * 是否缓存选择结果，只对 TypedPluginService 与标记了 TypeOnlySupports 的插件生效
+     */
+    private boolean selectCache = false;
+
+    /**
+     * 并行执行使用的线程池 bean 名称，如 asyncExecutor，不配置时在调用线程中依次执行
+     */
+    private String parallelExecutor;
+
+    /**
+     * 单次并行执行的最大并发数
+     */
+    private int maxConcurrency = PluginSelectorExecutor.DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * 单次并行执行的整体超时时间
+     */
+    private Duration parallelTimeout = PluginSelectorExecutor.DEFAULT_PARALLEL_TIMEOUT;
+
+    /**
+     * 是否将调用线程的 MDC 与 TransmittableThreadLocal 传递到并行执行的插件与异步回调
+     */
+    private boolean propagateContext = true;
+}
@@ -0,0 +1,44 @@
+package com.github.cadecode.xboot.common.extension.plugin.monitor;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.extension.plugin.PluginService;
+
+/**
+ * Plugin 监控接口
+ * <p>
+ * 由 PluginAutoConfig 设置到 PluginSelectorExecutor，选择与调用插件时回调，如 MicrometerPluginMonitor；
+ * 使用 NOOP 时执行器不计时
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public interface PluginMonitor {
+
+    /**
+     * 不记录任何数据的监控
+     */
+    PluginMonitor NOOP = new PluginMonitor() {
+    };
+
+    /**
+     * 选择插件完成
+     *
+     * @param serviceType PluginService 子类型
+     * @param type        业务类型
+     * @param nanos       选择耗时
+     */
+    default void onSelect(Class<?> serviceType, ExtensionType type, long nanos) {
+    }
+
+    /**
+     * 调用插件完成
+     *
+     * @param serviceType PluginService 子类型
+     * @param plugin      被调用的插件
+     * @param type        业务类型
+     * @param nanos       调用耗时
+     * @param error       调用异常，成功时为 null
+     */
+    default void onInvoke(Class<?> serviceType, PluginService plugin, ExtensionType type, long nanos, Throwable error) {
+    }
+}
@@ -10,6 +10,8 @@ import java.util.function.Supplier;
  * 断言工具类
  * <p>由 hutool {@code ObjUtil} 提供判断
  * <p>默认抛出的异常是 {@code GeneralException}
+ * <p>0 ~ 3 个模板参数的断言使用固定参数的重载，断言通过时不创建可变参数数组与 lambda，
+ * 异常信息在断言失败、读取异常信息时才格式化；需要拼接的异常信息可使用 {@code Supplier<String>} 重载延迟生成
  *
  * @author Cade Li
  * @date 2022/9/24
@@ -39,6 +41,60 @@ public class AssertUtil {
         isTrue(expression, () -> GeneralException.of(moreInfo, params));
     }
 
+    /**
+     * 判断是否为 true，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param moreInfo   异常信息
+     */
+    public static void isTrue(boolean expression, String moreInfo) {
+        if (expression) {
+            throw GeneralException.of(moreInfo);
+        }
+    }
+
+    /**
+     * 判断是否为 true，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     */
+    public static void isTrue(boolean expression, String moreInfo, Object param1) {
+        if (expression) {
+            throw GeneralException.of(moreInfo, param1);
+        }
+    }
+
+    /**
+     * 判断是否为 true，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     * @param param2     字符串模板参数 2
+     */
+    public static void isTrue(boolean expression, String moreInfo, Object param1, Object param2) {
+        if (expression) {
+            throw GeneralException.of(moreInfo, param1, param2);
+        }
+    }
+
+    /**
+     * 判断是否为 true，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     * @param param2     字符串模板参数 2
+     * @param param3     字符串模板参数 3
+     */
+    public static void isTrue(boolean expression, String moreInfo, Object param1, Object param2, Object param3) {
+        if (expression) {
+            throw GeneralException.of(moreInfo, param1, param2, param3);
+        }
+    }
+
     /**
      * 判断是否为 true，如果是就抛出运行时异常 GeneralException
      *
@@ -51,6 +107,78 @@ public class AssertUtil {
         isTrue(expression, () -> GeneralException.of(errorCode, moreInfo, params));
     }
 
+    /**
+     * 判断是否为 true，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param errorCode  错误码
+     * @param moreInfo   异常信息
+     */
+    public static void isTrue(boolean expression, ErrorCode errorCode, String moreInfo) {
+        if (expression) {
+            throw GeneralException.of(errorCode, moreInfo);
+        }
+    }
+
+    /**
+     * 判断是否为 true，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param errorCode  错误码
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     */
+    public static void isTrue(boolean expression, ErrorCode errorCode, String moreInfo, Object param1) {
+        if (expression) {
+            throw GeneralException.of(errorCode, moreInfo, param1);
+        }
+    }
+
+    /**
+     * 判断是否为 true，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param errorCode  错误码
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     * @param param2     字符串模板参数 2
+     */
+    public static void isTrue(boolean expression, ErrorCode errorCode, String moreInfo, Object param1, Object param2) {
+        if (expression) {
+            throw GeneralException.of(errorCode, moreInfo, param1, param2);
+        }
+    }
+
+    /**
+     * 判断是否为 true，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param errorCode  错误码
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     * @param param2     字符串模板参数 2
+     * @param param3     字符串模板参数 3
+     */
+    public static void isTrue(boolean expression, ErrorCode errorCode, String moreInfo, Object param1, Object param2, Object param3) {
+        if (expression) {
+            throw GeneralException.of(errorCode, moreInfo, param1, param2, param3);
+        }
+    }
+
+    /**
+     * 判断是否为 true，如果是就抛出运行时异常 GeneralException
+     * <p>异常信息在断言失败时才生成
+     *
+     * @param expression       布尔表达式
+     * @param errorCode        错误码
+     * @param moreInfoSupplier 异常信息提供者，仅在断言失败时调用
+     */
+    public static void isTrue(boolean expression, ErrorCode errorCode, Supplier<String> moreInfoSupplier) {
+        if (expression) {
+            throw GeneralException.of(errorCode, moreInfoSupplier.get());
+        }
+    }
+
     /**
      * 判断是否为 true，如果是就抛出运行时异常 GeneralException，指定 caused
      *
@@ -85,6 +213,52 @@ public class AssertUtil {
         isTrue(!expression, () -> GeneralException.of(moreInfo, params));
     }
 
+    /**
+     * 判断是否为 false，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param moreInfo   异常信息
+     */
+    public static void isFalse(boolean expression, String moreInfo) {
+        isTrue(!expression, moreInfo);
+    }
+
+    /**
+     * 判断是否为 false，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     */
+    public static void isFalse(boolean expression, String moreInfo, Object param1) {
+        isTrue(!expression, moreInfo, param1);
+    }
+
+    /**
+     * 判断是否为 false，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     * @param param2     字符串模板参数 2
+     */
+    public static void isFalse(boolean expression, String moreInfo, Object param1, Object param2) {
+        isTrue(!expression, moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否为 false，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     * @param param2     字符串模板参数 2
+     * @param param3     字符串模板参数 3
+     */
+    public static void isFalse(boolean expression, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(!expression, moreInfo, param1, param2, param3);
+    }
+
     /**
      * 判断是否为 false，如果是就抛出运行时异常 GeneralException
      *
@@ -97,6 +271,68 @@ public class AssertUtil {
         isTrue(!expression, () -> GeneralException.of(errorCode, moreInfo, params));
     }
 
+    /**
+     * 判断是否为 false，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param errorCode  错误码
+     * @param moreInfo   异常信息
+     */
+    public static void isFalse(boolean expression, ErrorCode errorCode, String moreInfo) {
+        isTrue(!expression, errorCode, moreInfo);
+    }
+
+    /**
+     * 判断是否为 false，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param errorCode  错误码
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     */
+    public static void isFalse(boolean expression, ErrorCode errorCode, String moreInfo, Object param1) {
+        isTrue(!expression, errorCode, moreInfo, param1);
+    }
+
+    /**
+     * 判断是否为 false，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param errorCode  错误码
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     * @param param2     字符串模板参数 2
+     */
+    public static void isFalse(boolean expression, ErrorCode errorCode, String moreInfo, Object param1, Object param2) {
+        isTrue(!expression, errorCode, moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否为 false，如果是就抛出运行时异常 GeneralException
+     *
+     * @param expression 布尔表达式
+     * @param errorCode  错误码
+     * @param moreInfo   异常信息
+     * @param param1     字符串模板参数 1
+     * @param param2     字符串模板参数 2
+     * @param param3     字符串模板参数 3
+     */
+    public static void isFalse(boolean expression, ErrorCode errorCode, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(!expression, errorCode, moreInfo, param1, param2, param3);
+    }
+
+    /**
+     * 判断是否为 false，如果是就抛出运行时异常 GeneralException
+     * <p>异常信息在断言失败时才生成
+     *
+     * @param expression       布尔表达式
+     * @param errorCode        错误码
+     * @param moreInfoSupplier 异常信息提供者，仅在断言失败时调用
+     */
+    public static void isFalse(boolean expression, ErrorCode errorCode, Supplier<String> moreInfoSupplier) {
+        isTrue(!expression, errorCode, moreInfoSupplier);
+    }
+
     /**
      * 判断是否为 false，如果是就抛出运行时异常 GeneralException，指定 caused
      *
@@ -131,6 +367,52 @@ public class AssertUtil {
         isTrue(ObjUtil.isNull(o), () -> GeneralException.of(moreInfo, params));
     }
 
+    /**
+     * 判断是否为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     */
+    public static void isNull(Object o, String moreInfo) {
+        isTrue(ObjUtil.isNull(o), moreInfo);
+    }
+
+    /**
+     * 判断是否为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     */
+    public static void isNull(Object o, String moreInfo, Object param1) {
+        isTrue(ObjUtil.isNull(o), moreInfo, param1);
+    }
+
+    /**
+     * 判断是否为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     * @param param2   字符串模板参数 2
+     */
+    public static void isNull(Object o, String moreInfo, Object param1, Object param2) {
+        isTrue(ObjUtil.isNull(o), moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     * @param param2   字符串模板参数 2
+     * @param param3   字符串模板参数 3
+     */
+    public static void isNull(Object o, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(ObjUtil.isNull(o), moreInfo, param1, param2, param3);
+    }
+
     /**
      * 判断是否为 null，如果是就抛出运行时异常 GeneralException
      *
@@ -143,6 +425,68 @@ public class AssertUtil {
         isTrue(ObjUtil.isNull(o), () -> GeneralException.of(errorCode, moreInfo, params));
     }
 
+    /**
+     * 判断是否为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     */
+    public static void isNull(Object o, ErrorCode errorCode, String moreInfo) {
+        isTrue(ObjUtil.isNull(o), errorCode, moreInfo);
+    }
+
+    /**
+     * 判断是否为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     */
+    public static void isNull(Object o, ErrorCode errorCode, String moreInfo, Object param1) {
+        isTrue(ObjUtil.isNull(o), errorCode, moreInfo, param1);
+    }
+
+    /**
+     * 判断是否为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     * @param param2    字符串模板参数 2
+     */
+    public static void isNull(Object o, ErrorCode errorCode, String moreInfo, Object param1, Object param2) {
+        isTrue(ObjUtil.isNull(o), errorCode, moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     * @param param2    字符串模板参数 2
+     * @param param3    字符串模板参数 3
+     */
+    public static void isNull(Object o, ErrorCode errorCode, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(ObjUtil.isNull(o), errorCode, moreInfo, param1, param2, param3);
+    }
+
+    /**
+     * 判断是否为 null，如果是就抛出运行时异常 GeneralException
+     * <p>异常信息在断言失败时才生成
+     *
+     * @param o                对象
+     * @param errorCode        错误码
+     * @param moreInfoSupplier 异常信息提供者，仅在断言失败时调用
+     */
+    public static void isNull(Object o, ErrorCode errorCode, Supplier<String> moreInfoSupplier) {
+        isTrue(ObjUtil.isNull(o), errorCode, moreInfoSupplier);
+    }
+
     /**
      * 判断是否为 null，如果是就抛出运行时异常 GeneralException，指定 caused
      *
@@ -177,6 +521,52 @@ public class AssertUtil {
         isTrue(ObjUtil.isNotNull(o), () -> GeneralException.of(moreInfo, params));
     }
 
+    /**
+     * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     */
+    public static void isNotNull(Object o, String moreInfo) {
+        isTrue(ObjUtil.isNotNull(o), moreInfo);
+    }
+
+    /**
+     * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     */
+    public static void isNotNull(Object o, String moreInfo, Object param1) {
+        isTrue(ObjUtil.isNotNull(o), moreInfo, param1);
+    }
+
+    /**
+     * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     * @param param2   字符串模板参数 2
+     */
+    public static void isNotNull(Object o, String moreInfo, Object param1, Object param2) {
+        isTrue(ObjUtil.isNotNull(o), moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     * @param param2   字符串模板参数 2
+     * @param param3   字符串模板参数 3
+     */
+    public static void isNotNull(Object o, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(ObjUtil.isNotNull(o), moreInfo, param1, param2, param3);
+    }
+
     /**
      * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
      *
@@ -189,6 +579,68 @@ public class AssertUtil {
         isTrue(ObjUtil.isNotNull(o), () -> GeneralException.of(errorCode, moreInfo, params));
     }
 
+    /**
+     * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     */
+    public static void isNotNull(Object o, ErrorCode errorCode, String moreInfo) {
+        isTrue(ObjUtil.isNotNull(o), errorCode, moreInfo);
+    }
+
+    /**
+     * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     */
+    public static void isNotNull(Object o, ErrorCode errorCode, String moreInfo, Object param1) {
+        isTrue(ObjUtil.isNotNull(o), errorCode, moreInfo, param1);
+    }
+
+    /**
+     * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     * @param param2    字符串模板参数 2
+     */
+    public static void isNotNull(Object o, ErrorCode errorCode, String moreInfo, Object param1, Object param2) {
+        isTrue(ObjUtil.isNotNull(o), errorCode, moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     * @param param2    字符串模板参数 2
+     * @param param3    字符串模板参数 3
+     */
+    public static void isNotNull(Object o, ErrorCode errorCode, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(ObjUtil.isNotNull(o), errorCode, moreInfo, param1, param2, param3);
+    }
+
+    /**
+     * 判断是否不为 null，如果是就抛出运行时异常 GeneralException
+     * <p>异常信息在断言失败时才生成
+     *
+     * @param o                对象
+     * @param errorCode        错误码
+     * @param moreInfoSupplier 异常信息提供者，仅在断言失败时调用
+     */
+    public static void isNotNull(Object o, ErrorCode errorCode, Supplier<String> moreInfoSupplier) {
+        isTrue(ObjUtil.isNotNull(o), errorCode, moreInfoSupplier);
+    }
+
     /**
      * 判断是否不为 null，如果是就抛出运行时异常 GeneralException，指定 caused
      *
@@ -223,6 +675,52 @@ public class AssertUtil {
         isTrue(ObjUtil.isEmpty(o), () -> GeneralException.of(moreInfo, params));
     }
 
+    /**
+     * 判断是否为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     */
+    public static void isEmpty(Object o, String moreInfo) {
+        isTrue(ObjUtil.isEmpty(o), moreInfo);
+    }
+
+    /**
+     * 判断是否为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     */
+    public static void isEmpty(Object o, String moreInfo, Object param1) {
+        isTrue(ObjUtil.isEmpty(o), moreInfo, param1);
+    }
+
+    /**
+     * 判断是否为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     * @param param2   字符串模板参数 2
+     */
+    public static void isEmpty(Object o, String moreInfo, Object param1, Object param2) {
+        isTrue(ObjUtil.isEmpty(o), moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     * @param param2   字符串模板参数 2
+     * @param param3   字符串模板参数 3
+     */
+    public static void isEmpty(Object o, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(ObjUtil.isEmpty(o), moreInfo, param1, param2, param3);
+    }
+
     /**
      * 判断是否为空，如果是就抛出运行时异常 GeneralException
      *
@@ -235,6 +733,68 @@ public class AssertUtil {
         isTrue(ObjUtil.isEmpty(o), () -> GeneralException.of(errorCode, moreInfo, params));
     }
 
+    /**
+     * 判断是否为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     */
+    public static void isEmpty(Object o, ErrorCode errorCode, String moreInfo) {
+        isTrue(ObjUtil.isEmpty(o), errorCode, moreInfo);
+    }
+
+    /**
+     * 判断是否为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     */
+    public static void isEmpty(Object o, ErrorCode errorCode, String moreInfo, Object param1) {
+        isTrue(ObjUtil.isEmpty(o), errorCode, moreInfo, param1);
+    }
+
+    /**
+     * 判断是否为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     * @param param2    字符串模板参数 2
+     */
+    public static void isEmpty(Object o, ErrorCode errorCode, String moreInfo, Object param1, Object param2) {
+        isTrue(ObjUtil.isEmpty(o), errorCode, moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     * @param param2    字符串模板参数 2
+     * @param param3    字符串模板参数 3
+     */
+    public static void isEmpty(Object o, ErrorCode errorCode, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(ObjUtil.isEmpty(o), errorCode, moreInfo, param1, param2, param3);
+    }
+
+    /**
+     * 判断是否为空，如果是就抛出运行时异常 GeneralException
+     * <p>异常信息在断言失败时才生成
+     *
+     * @param o                对象
+     * @param errorCode        错误码
+     * @param moreInfoSupplier 异常信息提供者，仅在断言失败时调用
+     */
+    public static void isEmpty(Object o, ErrorCode errorCode, Supplier<String> moreInfoSupplier) {
+        isTrue(ObjUtil.isEmpty(o), errorCode, moreInfoSupplier);
+    }
+
     /**
      * 判断是否为空，如果是就抛出运行时异常 GeneralException，指定 caused
      *
@@ -269,6 +829,52 @@ public class AssertUtil {
         isTrue(ObjUtil.isNotEmpty(o), () -> GeneralException.of(moreInfo, params));
     }
 
+    /**
+     * 判断是否不为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     */
+    public static void isNotEmpty(Object o, String moreInfo) {
+        isTrue(ObjUtil.isNotEmpty(o), moreInfo);
+    }
+
+    /**
+     * 判断是否不为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     */
+    public static void isNotEmpty(Object o, String moreInfo, Object param1) {
+        isTrue(ObjUtil.isNotEmpty(o), moreInfo, param1);
+    }
+
+    /**
+     * 判断是否不为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     * @param param2   字符串模板参数 2
+     */
+    public static void isNotEmpty(Object o, String moreInfo, Object param1, Object param2) {
+        isTrue(ObjUtil.isNotEmpty(o), moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否不为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o        对象
+     * @param moreInfo 异常信息
+     * @param param1   字符串模板参数 1
+     * @param param2   字符串模板参数 2
+     * @param param3   字符串模板参数 3
+     */
+    public static void isNotEmpty(Object o, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(ObjUtil.isNotEmpty(o), moreInfo, param1, param2, param3);
+    }
+
     /**
      * 判断是否不为空，如果是就抛出运行时异常 GeneralException
      *
@@ -281,6 +887,68 @@ public class AssertUtil {
         isTrue(ObjUtil.isNotEmpty(o), () -> GeneralException.of(errorCode, moreInfo, params));
     }
 
+    /**
+     * 判断是否不为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     */
+    public static void isNotEmpty(Object o, ErrorCode errorCode, String moreInfo) {
+        isTrue(ObjUtil.isNotEmpty(o), errorCode, moreInfo);
+    }
+
+    /**
+     * 判断是否不为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     */
+    public static void isNotEmpty(Object o, ErrorCode errorCode, String moreInfo, Object param1) {
+        isTrue(ObjUtil.isNotEmpty(o), errorCode, moreInfo, param1);
+    }
+
+    /**
+     * 判断是否不为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     * @param param2    字符串模板参数 2
+     */
+    public static void isNotEmpty(Object o, ErrorCode errorCode, String moreInfo, Object param1, Object param2) {
+        isTrue(ObjUtil.isNotEmpty(o), errorCode, moreInfo, param1, param2);
+    }
+
+    /**
+     * 判断是否不为空，如果是就抛出运行时异常 GeneralException
+     *
+     * @param o         对象
+     * @param errorCode 错误码
+     * @param moreInfo  异常信息
+     * @param param1    字符串模板参数 1
+     * @param param2    字符串模板参数 2
+     * @param param3    字符串模板参数 3
+     */
+    public static void isNotEmpty(Object o, ErrorCode errorCode, String moreInfo, Object param1, Object param2, Object param3) {
+        isTrue(ObjUtil.isNotEmpty(o), errorCode, moreInfo, param1, param2, param3);
+    }
+
+    /**
+     * 判断是否不为空，如果是就抛出运行时异常 GeneralException
+     * <p>异常信息在断言失败时才生成
+     *
+     * @param o                对象
+     * @param errorCode        错误码
+     * @param moreInfoSupplier 异常信息提供者，仅在断言失败时调用
+     */
+    public static void isNotEmpty(Object o, ErrorCode errorCode, Supplier<String> moreInfoSupplier) {
+        isTrue(ObjUtil.isNotEmpty(o), errorCode, moreInfoSupplier);
+    }
+
     /**
      * 判断是否不为空，如果是就抛出运行时异常 GeneralException，指定 caused
      *
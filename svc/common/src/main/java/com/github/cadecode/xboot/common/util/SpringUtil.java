@@ -138,21 +138,24 @@ public class SpringUtil implements BeanFactoryPostProcessor, ApplicationContextA
     }
 
     /**
-     * 动态向Spring注册Bean
+     * 动态向Spring注册Bean，注册后发布 BeanChangeEvent
      */
     public static <T> void registerBean(String beanName, T bean) {
         final ConfigurableListableBeanFactory factory = getConfigurableBeanFactory();
         factory.autowireBean(bean);
         factory.registerSingleton(beanName, bean);
+        publishEvent(new BeanChangeEvent(beanName, bean, true));
     }
 
     /**
-     * 注销 bean
+     * 注销 bean，注销后发布 BeanChangeEvent
      */
     public static void unregisterBean(String beanName) {
         final ConfigurableListableBeanFactory factory = getConfigurableBeanFactory();
         if (factory instanceof DefaultSingletonBeanRegistry registry) {
+            Object bean = registry.getSingleton(beanName);
             registry.destroySingleton(beanName);
+            publishEvent(new BeanChangeEvent(beanName, bean, false));
         } else {
             throw new HelperException("can not unregister bean, bean name is {}", beanName);
         }
@@ -167,6 +170,16 @@ public class SpringUtil implements BeanFactoryPostProcessor, ApplicationContextA
         }
     }
 
+    /**
+     * 动态注册或注销 bean 事件
+     *
+     * @param beanName   bean 名称
+     * @param bean       bean 实例，注销不存在的 bean 时为 null
+     * @param registered true 为注册，false 为注销
+     */
+    public record BeanChangeEvent(String beanName, Object bean, boolean registered) {
+    }
+
     @Override
     public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
         BEAN_FACTORY = beanFactory;
@@ -0,0 +1,138 @@
+package com.github.cadecode.xboot.common.util;
+
+import com.alibaba.ttl.TransmittableThreadLocal;
+import org.slf4j.MDC;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 线程上下文快照
+ * <p>在提交异步任务的线程中 capture，在执行任务或回调的线程中通过 run / call 恢复，执行完成后还原该线程原有的上下文
+ * <p>包含 MDC 与 TransmittableThreadLocal（classpath 中存在 transmittable-thread-local 时）
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public final class ThreadContextSnapshot {
+
+    /**
+     * 不携带任何上下文的快照，run / call 直接执行
+     */
+    public static final ThreadContextSnapshot NONE = new ThreadContextSnapshot(null, null);
+
+    private static final boolean TTL_PRESENT = ClassUtils.isPresent("com.alibaba.ttl.TransmittableThreadLocal",
+            ThreadContextSnapshot.class.getClassLoader());
+
+    private final Map<String, String> mdc;
+
+    private final Object ttl;
+
+    private ThreadContextSnapshot(Map<String, String> mdc, Object ttl) {
+        this.mdc = mdc;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 捕获当前线程的上下文
+     */
+    public static ThreadContextSnapshot capture() {
+        return new ThreadContextSnapshot(MDC.getCopyOfContextMap(), TTL_PRESENT ? TtlSupport.capture() : null);
+    }
+
+    /**
+     * 在快照的上下文中执行
+     */
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 在快照的上下文中执行，返回执行结果
+     */
+    public <T> T call(Supplier<T> action) {
+        if (this == NONE) {
+            return action.get();
+        }
+        Backup backup = replay();
+        try {
+            return action.get();
+        } finally {
+            backup.restore();
+        }
+    }
+
+    /**
+     * 包装为在快照的上下文中执行的 Runnable
+     */
+    public Runnable wrap(Runnable action) {
+        return this == NONE ? action : () -> run(action);
+    }
+
+    /**
+     * 包装为在快照的上下文中执行的 Callable
+     */
+    public <T> Callable<T> wrapCallable(Callable<T> action) {
+        if (this == NONE) {
+            return action;
+        }
+        return () -> {
+            Backup backup = replay();
+            try {
+                return action.call();
+            } finally {
+                backup.restore();
+            }
+        };
+    }
+
+    /**
+     * 将快照的上下文设置到当前线程，返回当前线程原有的上下文
+     */
+    private Backup replay() {
+        Backup backup = new Backup(MDC.getCopyOfContextMap(), ttl != null ? TtlSupport.replay(ttl) : null);
+        setMdc(mdc);
+        return backup;
+    }
+
+    private static void setMdc(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+
+    private record Backup(Map<String, String> mdc, Object ttl) {
+
+        void restore() {
+            setMdc(mdc);
+            if (ttl != null) {
+                TtlSupport.restore(ttl);
+            }
+        }
+    }
+
+    /**
+     * 隔离对 transmittable-thread-local 的引用，未引入该依赖时不加载
+     */
+    private static final class TtlSupport {
+
+        static Object capture() {
+            return TransmittableThreadLocal.Transmitter.capture();
+        }
+
+        static Object replay(Object captured) {
+            return TransmittableThreadLocal.Transmitter.replay(captured);
+        }
+
+        static void restore(Object backup) {
+            TransmittableThreadLocal.Transmitter.restore(backup);
+        }
+    }
+}
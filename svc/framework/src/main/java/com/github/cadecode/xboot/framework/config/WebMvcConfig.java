@@ -1,10 +1,15 @@
 package com.github.cadecode.xboot.framework.config;
 
+import com.github.cadecode.xboot.starter.web.convertor.ApiResultStringHttpMessageConverter;
 import com.github.cadecode.xboot.starter.web.convertor.ParamEnumConvertorFactory;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * Spring MVC 配置
  *
@@ -19,4 +24,15 @@ public class WebMvcConfig implements WebMvcConfigurer {
         // 添加枚举类的转换器工厂
         registry.addConverterFactory(new ParamEnumConvertorFactory());
     }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // 在 StringHttpMessageConverter 之前添加，String 返回值包装为 ApiResult 后直接序列化写出
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof StringHttpMessageConverter stringConverter) {
+                converters.add(i, new ApiResultStringHttpMessageConverter(stringConverter));
+                return;
+            }
+        }
+    }
 }
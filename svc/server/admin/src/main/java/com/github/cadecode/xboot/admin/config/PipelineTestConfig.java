@@ -1,12 +1,17 @@
 package com.github.cadecode.xboot.admin.config;
 
+import com.github.cadecode.xboot.common.extension.pipeline.config.FilterSelectorBinder;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorRegistry;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
  * Pipeline 测试配置注册
  * <p>
- * 示例：业务模块通过 @Configuration + @EnableConfigurationProperties 注册自己的 Properties
+ * 示例：业务模块通过 @Configuration + @EnableConfigurationProperties 注册自己的 Properties，
+ * 并以 FilterSelectorRegistry 持有可刷新的 selector，配置来源从 Environment 重新绑定，属性源变化后 refresh 即可生效
  *
  * @author Cade Li
  * @since 2026/6/28
@@ -14,4 +19,9 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @EnableConfigurationProperties(PipelineTestProperties.class)
 public class PipelineTestConfig {
+
+    @Bean
+    public FilterSelectorRegistry pipelineTestSelectorRegistry(Environment environment) {
+        return new FilterSelectorRegistry(FilterSelectorBinder.source(environment, "pipeline-test.filter-selectors"));
+    }
 }
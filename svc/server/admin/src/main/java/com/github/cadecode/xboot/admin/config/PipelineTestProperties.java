@@ -10,7 +10,8 @@ import java.util.Map;
  * Pipeline 测试配置示例
  * <p>
  * 每个业务模块维护自己的 filter-selectors 配置，
- * 通过 {@link com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorFactory} 解析。
+ * 通过 {@link com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorFactory} 解析，
+ * 或交给 {@link com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorRegistry} 支持刷新。
  *
  * @author Cade Li
  * @since 2026/6/28
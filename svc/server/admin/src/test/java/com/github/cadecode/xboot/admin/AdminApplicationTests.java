@@ -1,8 +1,15 @@
 package com.github.cadecode.xboot.admin;
 
+import com.github.cadecode.xboot.common.exception.ExtensionException;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 /**
  * admin 服务测试类
  *
@@ -12,8 +19,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 @SpringBootTest
 public class AdminApplicationTests {
 
+    @Autowired
+    @Qualifier("pipelineTestSelectorRegistry")
+    private FilterSelectorRegistry pipelineTestSelectorRegistry;
+
     @Test
     public void contextLoads() {
         
     }
+
+    /**
+     * 未配置 pipeline-test.filter-selectors 时正常启动，获取 selector 时才失败
+     */
+    @Test
+    public void contextLoadsWithoutFilterSelectors() {
+        assertTrue(pipelineTestSelectorRegistry.getFilterSelectors().isEmpty());
+        assertThrows(ExtensionException.class, () -> pipelineTestSelectorRegistry.getSelector("BIZ1"));
+    }
 }
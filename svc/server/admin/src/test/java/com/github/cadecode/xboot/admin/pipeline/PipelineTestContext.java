@@ -3,16 +3,29 @@ package com.github.cadecode.xboot.admin.pipeline;
 import com.github.cadecode.xboot.common.extension.pipeline.AbstractPipelineContext;
 import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelector;
 import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 @Getter
 public class PipelineTestContext extends AbstractPipelineContext {
 
+    @Setter
+    private boolean continueChain = true;
+
+    /**
+     * 已执行的 filter，按执行顺序记录
+     */
+    private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
     public PipelineTestContext(PipelineTestType pipelineType, FilterSelector filterSelector) {
         super(pipelineType, filterSelector);
     }
 
     @Override
     public boolean continueChain() {
-        return true;
+        return continueChain;
     }
 }
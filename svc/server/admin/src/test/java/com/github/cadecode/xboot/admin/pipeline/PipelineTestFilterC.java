@@ -2,14 +2,17 @@ package com.github.cadecode.xboot.admin.pipeline;
 
 import com.github.cadecode.xboot.common.extension.pipeline.filter.AbstractPipelineFilter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 @Slf4j
+@Order(3)
 @Component
 public class PipelineTestFilterC extends AbstractPipelineFilter<PipelineTestContext> {
 
     @Override
     public void handle(PipelineTestContext context) {
         log.info("filterC executed");
+        context.getExecuted().add("C");
     }
 }
@@ -2,22 +2,59 @@ package com.github.cadecode.xboot.admin.pipeline;
 
 import com.github.cadecode.xboot.admin.config.PipelineTestProperties;
 import com.github.cadecode.xboot.common.exception.ExtensionException;
+import com.github.cadecode.xboot.common.exception.PipelineTimeoutException;
+import com.github.cadecode.xboot.common.extension.pipeline.PipelineContext;
 import com.github.cadecode.xboot.common.extension.pipeline.PipelineExecutor;
+import com.github.cadecode.xboot.common.extension.pipeline.PipelineFilterChain;
+import com.github.cadecode.xboot.common.extension.pipeline.PipelineRegistry;
+import com.github.cadecode.xboot.common.extension.pipeline.annotation.IndependentFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.filter.AbstractAsyncPipelineFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.filter.AbstractPipelineFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.filter.PipelineFilter;
+import com.github.cadecode.xboot.common.extension.pipeline.guard.PipelineGuardPolicy;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineMonitorHolder;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineProbe;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineTrace;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineTracer;
+import com.github.cadecode.xboot.common.extension.pipeline.pool.AbstractPooledPipelineContext;
+import com.github.cadecode.xboot.common.extension.pipeline.pool.PipelineContextPool;
 import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorFactory;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorRegistry;
 import com.github.cadecode.xboot.common.extension.pipeline.selector.DummyFilterSelector;
 import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelector;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorCache;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.IndexedFilterSelector;
 import com.github.cadecode.xboot.common.extension.pipeline.selector.LocalListFilterSelector;
 import com.github.cadecode.xboot.common.extension.pipeline.selector.MatchAllFilterSelector;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
 import org.springframework.test.context.TestPropertySource;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,6 +65,8 @@ import static org.junit.jupiter.api.Assertions.*;
         "pipeline-test.filter-selectors.BIZ3=PipelineTestFilterA",
         "pipeline-test.filter-selectors.BIZ4=on",
         "pipeline-test.filter-selectors.BIZ5=off",
+        "x-boot.pipeline.filter-selectors.BIZ1=PipelineTestFilterA,PipelineTestFilterC",
+        "x-boot.pipeline.filter-selectors.BIZ4=on",
 })
 public class PipelineTests {
 
@@ -43,6 +82,12 @@ public class PipelineTests {
     @Autowired
     private PipelineTestProperties props;
 
+    @Autowired
+    private PipelineRegistry pipelineRegistry;
+
+    @Autowired
+    private ConfigurableEnvironment environment;
+
     private PipelineExecutor<PipelineTestContext> executor;
 
     @BeforeEach
@@ -99,7 +144,7 @@ public class PipelineTests {
     @DisplayName("声明式：BIZ1 启用全部 3 个 filter")
     void testDeclarative_biz1All() {
         FilterSelector selector = createSelector(PipelineTestType.BIZ1);
-        assertTrue(selector instanceof LocalListFilterSelector);
+        assertTrue(selector instanceof IndexedFilterSelector);
         assertTrue(selector.matchFilter("PipelineTestFilterA"));
         assertTrue(selector.matchFilter("PipelineTestFilterB"));
         assertTrue(selector.matchFilter("PipelineTestFilterC"));
@@ -110,7 +155,7 @@ public class PipelineTests {
     @DisplayName("声明式：BIZ2 只启用 B/C")
     void testDeclarative_biz2Partial() {
         FilterSelector selector = createSelector(PipelineTestType.BIZ2);
-        assertTrue(selector instanceof LocalListFilterSelector);
+        assertTrue(selector instanceof IndexedFilterSelector);
         assertFalse(selector.matchFilter("PipelineTestFilterA"));
         assertTrue(selector.matchFilter("PipelineTestFilterB"));
         assertTrue(selector.matchFilter("PipelineTestFilterC"));
@@ -121,7 +166,7 @@ public class PipelineTests {
     @DisplayName("声明式：BIZ3 只启用 A")
     void testDeclarative_biz3Partial() {
         FilterSelector selector = createSelector(PipelineTestType.BIZ3);
-        assertTrue(selector instanceof LocalListFilterSelector);
+        assertTrue(selector instanceof IndexedFilterSelector);
         assertTrue(selector.matchFilter("PipelineTestFilterA"));
         assertFalse(selector.matchFilter("PipelineTestFilterB"));
         assertFalse(selector.matchFilter("PipelineTestFilterC"));
@@ -174,9 +219,886 @@ public class PipelineTests {
     }
 
     @Test
-    void testLocalListFilterSelector_fromFactory() {
+    void testIndexedFilterSelector_fromFactory() {
         FilterSelector selector = createSelector(PipelineTestType.BIZ1);
-        assertTrue(selector instanceof LocalListFilterSelector);
+        assertTrue(selector instanceof IndexedFilterSelector);
         assertEquals(List.of("PipelineTestFilterA", "PipelineTestFilterB", "PipelineTestFilterC"), selector.getFilterNames());
     }
+
+    @Test
+    void testIndexedFilterSelector() {
+        IndexedFilterSelector selector = IndexedFilterSelector.of(List.of("PipelineTestFilterA", "PipelineTestFilterC"));
+        assertTrue(selector.matchFilter("PipelineTestFilterA"));
+        assertFalse(selector.matchFilter("PipelineTestFilterB"));
+        assertTrue(selector.matchFilter("PipelineTestFilterC"));
+        assertFalse(selector.matchFilter("NeverRegisteredFilter"));
+        assertFalse(selector.matchFilter(null));
+    }
+
+    @Test
+    @DisplayName("声明式：相同配置返回同一 selector 实例")
+    void testFactory_interned() {
+        assertSame(createSelector(PipelineTestType.BIZ1), createSelector(PipelineTestType.BIZ1));
+        assertSame(createSelector(PipelineTestType.BIZ4), createSelector(PipelineTestType.BIZ4));
+        assertSame(createSelector(PipelineTestType.BIZ2),
+                IndexedFilterSelector.of(new ArrayList<>(List.of("PipelineTestFilterB", "PipelineTestFilterC"))));
+    }
+
+    @Test
+    @DisplayName("执行计划：按 append 顺序执行已启用的 filter")
+    void testPlan_order() {
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ2, createSelector(PipelineTestType.BIZ2));
+        executor.execute(context);
+        assertEquals(List.of("B", "C"), context.getExecuted());
+        assertEquals(List.of("PipelineTestFilterA", "PipelineTestFilterB", "PipelineTestFilterC"),
+                executor.getPlan().getFilterNames());
+    }
+
+    @Test
+    @DisplayName("执行计划：continueChain 为 false 时中断后续 filter")
+    void testPlan_interrupt() {
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        gen.appendFilter(filterA, "A");
+        gen.appendFilter(new AbstractPipelineFilter<>() {
+            @Override
+            public void handle(PipelineTestContext context) {
+                context.setContinueChain(false);
+            }
+        }, "interrupt");
+        gen.appendFilter(filterC, "C");
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        gen.execute(context);
+        assertEquals(List.of("A"), context.getExecuted());
+    }
+
+    @Test
+    @DisplayName("执行计划：自定义 doFilter 的 filter 通过 chain.next 继续执行")
+    void testPlan_customDoFilter() {
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        gen.appendFilter(filterA, "A");
+        gen.appendFilter(new PipelineFilter<>() {
+            @Override
+            public void doFilter(PipelineTestContext context, PipelineFilterChain<PipelineTestContext> filterChain) {
+                context.getExecuted().add("custom-before");
+                filterChain.next(context);
+                context.getExecuted().add("custom-after");
+            }
+        }, "custom");
+        gen.appendFilter(filterC, "C");
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        gen.execute(context);
+        assertEquals(List.of("A", "custom-before", "C", "custom-after"), context.getExecuted());
+    }
+
+    @Test
+    @DisplayName("执行计划：长链循环执行，不随 filter 数量加深调用栈")
+    void testPlan_longChain() {
+        AtomicInteger counter = new AtomicInteger();
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        AbstractPipelineFilter<PipelineTestContext> counting = new AbstractPipelineFilter<>() {
+            @Override
+            public void handle(PipelineTestContext context) {
+                counter.incrementAndGet();
+            }
+        };
+        for (int i = 0; i < 10000; i++) {
+            gen.appendFilter(counting, "counting");
+        }
+        gen.execute(new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector()));
+        assertEquals(10000, counter.get());
+    }
+
+    @Test
+    @DisplayName("Selector 缓存：selector 内容变化后缓存失效")
+    void testSelectorCache_invalidate() {
+        LocalListFilterSelector selector = new LocalListFilterSelector(new ArrayList<>(List.of("PipelineTestFilterA")));
+        PipelineTestContext first = new PipelineTestContext(PipelineTestType.BIZ1, selector);
+        executor.execute(first);
+        assertEquals(List.of("A"), first.getExecuted());
+
+        selector.addFilter("PipelineTestFilterC");
+        PipelineTestContext second = new PipelineTestContext(PipelineTestType.BIZ1, selector);
+        executor.execute(second);
+        assertEquals(List.of("A", "C"), second.getExecuted());
+
+        // 绕过 addFilter 直接修改列表
+        selector.getFilterNames().add("PipelineTestFilterB");
+        PipelineTestContext third = new PipelineTestContext(PipelineTestType.BIZ1, selector);
+        executor.execute(third);
+        assertEquals(List.of("A", "B", "C"), third.getExecuted());
+    }
+
+    @Test
+    @DisplayName("Selector 缓存：只按实例或类型缓存不可变 selector，不缓存可变列表与未知实现")
+    void testSelectorCache_immutableKey() {
+        FilterSelectorCache cache = new FilterSelectorCache(List.of("PipelineTestFilterA", "PipelineTestFilterB"));
+        IndexedFilterSelector indexed = IndexedFilterSelector.of(List.of("PipelineTestFilterB"));
+        BitSet first = cache.resolve(indexed);
+        assertSame(first, cache.resolve(IndexedFilterSelector.of(new ArrayList<>(List.of("PipelineTestFilterB")))));
+        assertEquals(BitSet.valueOf(new long[]{0b10}), first);
+        assertSame(cache.resolve(new MatchAllFilterSelector()), cache.resolve(new MatchAllFilterSelector()));
+        assertNull(cache.resolve(new LocalListFilterSelector(new ArrayList<>(List.of("PipelineTestFilterB")))));
+        assertNull(cache.resolve(new LocalListFilterSelector(new ArrayList<>()) {
+            @Override
+            public boolean matchFilter(String currFilterName) {
+                return true;
+            }
+        }));
+    }
+
+    @Test
+    @DisplayName("Selector 缓存：超过上限后淘汰最早加入的项，继续缓存新的 selector")
+    void testSelectorCache_evict() {
+        FilterSelectorCache cache = new FilterSelectorCache(List.of("PipelineTestFilterA", "PipelineTestFilterB"));
+        IndexedFilterSelector eldest = IndexedFilterSelector.of(List.of("Evict0"));
+        BitSet first = cache.resolve(eldest);
+        for (int i = 1; i <= 256; i++) {
+            assertNotNull(cache.resolve(IndexedFilterSelector.of(List.of("Evict" + i))));
+        }
+        BitSet latest = cache.resolve(IndexedFilterSelector.of(List.of("Evict256")));
+        assertSame(latest, cache.resolve(IndexedFilterSelector.of(List.of("Evict256"))));
+        assertNotSame(first, cache.resolve(eldest));
+    }
+
+    @Test
+    @DisplayName("并行阶段：相邻的 IndependentFilter 并发执行，最后一个在调用线程执行，合并动作按顺序执行")
+    void testPlan_parallelStage() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            // 三个 filter 都开始后才返回，串行执行时等待超时
+            CountDownLatch started = new CountDownLatch(3);
+            Map<String, String> threads = new ConcurrentHashMap<>();
+            PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>(pool);
+            gen.appendFilter(filterA, "A");
+            gen.appendFilter(new StageFilter1(started, threads), "P1");
+            gen.appendFilter(new StageFilter2(started, threads), "P2");
+            gen.appendFilter(new StageFilter3(started, threads), "P3");
+            gen.appendFilter(filterC, "C");
+            PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+            gen.execute(context);
+            assertEquals(List.of("A", "P1", "P2", "P3", "C"), context.getExecuted());
+            assertEquals(Thread.currentThread().getName(), threads.get("P3"));
+            assertNotEquals(Thread.currentThread().getName(), threads.get("P1"));
+            assertNotEquals(Thread.currentThread().getName(), threads.get("P2"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("并行阶段：execute 运行在已饱和的同一线程池中时，调用线程执行未被领取的 filter")
+    void testPlan_parallelStageSaturated() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Map<String, String> threads = new ConcurrentHashMap<>();
+            PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>(pool);
+            gen.appendFilter(new StageFilter1(new CountDownLatch(0), threads), "P1");
+            gen.appendFilter(new StageFilter2(new CountDownLatch(0), threads), "P2");
+            gen.appendFilter(new StageFilter3(new CountDownLatch(0), threads), "P3");
+            PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+            pool.submit(() -> gen.execute(context)).get(5, TimeUnit.SECONDS);
+            assertEquals(List.of("P1", "P2", "P3"), context.getExecuted());
+            assertEquals(1, new HashSet<>(threads.values()).size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("并行阶段：IndependentFilter 未重写 fork 时编译执行计划失败")
+    void testPlan_parallelStageRequiresFork() {
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>(Runnable::run);
+        gen.appendFilter(new NoForkFilter(), "noFork");
+        gen.appendFilter(new StageFilter1(new CountDownLatch(0), new ConcurrentHashMap<>()), "P1");
+        assertThrows(ExtensionException.class, gen::getPlan);
+    }
+
+    @Test
+    @DisplayName("并行阶段：任一 filter 异常在阶段结束后抛出")
+    void testPlan_parallelStageFail() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>(pool);
+            gen.appendFilter(new SlowFilter1(), "P1");
+            gen.appendFilter(new FailFilter(), "fail");
+            gen.appendFilter(filterC, "C");
+            PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+            assertThrows(IllegalStateException.class, () -> gen.execute(context));
+            assertTrue(context.getExecuted().isEmpty());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("异步执行：异步 filter 完成后继续执行后续 filter")
+    void testExecuteAsync() {
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        gen.appendFilter(filterA, "A");
+        gen.appendFilter(new DelayedAsyncFilter(false, null), "async");
+        gen.appendFilter(filterC, "C");
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        CompletableFuture<PipelineTestContext> future = gen.executeAsync(context);
+        assertFalse(future.isDone());
+        assertSame(context, future.join());
+        assertEquals(List.of("A", "async", "C"), context.getExecuted());
+    }
+
+    @Test
+    @DisplayName("异步执行：continueChain 为 false 时中断，future 正常完成")
+    void testExecuteAsync_interrupt() {
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        gen.appendFilter(new DelayedAsyncFilter(true, null), "async");
+        gen.appendFilter(filterC, "C");
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        gen.executeAsync(context).join();
+        assertEquals(List.of("async"), context.getExecuted());
+    }
+
+    @Test
+    @DisplayName("异步执行：异常通过 future 传递，同步执行按原类型抛出")
+    void testExecuteAsync_fail() {
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        gen.appendFilter(new DelayedAsyncFilter(false, new IllegalStateException("fail")), "async");
+        gen.appendFilter(filterC, "C");
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        CompletionException e = assertThrows(CompletionException.class, () -> gen.executeAsync(context).join());
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertThrows(IllegalStateException.class,
+                () -> gen.execute(new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector())));
+        assertTrue(context.getExecuted().isEmpty());
+    }
+
+    @Test
+    @DisplayName("批量执行：每个 filter 处理整批，中断的 context 不进入后续 filter，每个 filter 收到独立的列表")
+    void testExecuteBatch() {
+        PipelineTestContext first = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        PipelineTestContext interrupted = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        PipelineTestContext onlyC = new PipelineTestContext(PipelineTestType.BIZ4,
+                IndexedFilterSelector.of(List.of("PipelineTestFilterC")));
+        List<List<PipelineTestContext>> batches = new ArrayList<>();
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        gen.appendFilter(new AbstractPipelineFilter<>() {
+            @Override
+            public void handle(PipelineTestContext context) {
+                context.getExecuted().add("batch");
+                if (context == interrupted) {
+                    context.setContinueChain(false);
+                }
+            }
+
+            @Override
+            public void handleBatch(List<PipelineTestContext> contexts) {
+                batches.add(contexts);
+                super.handleBatch(contexts);
+            }
+        }, "batch");
+        gen.appendFilter(filterB, "B");
+        gen.appendFilter(filterC, "C");
+        gen.executeBatch(List.of(first, interrupted, onlyC));
+        assertEquals(List.of(List.of(first, interrupted)), batches);
+        assertEquals(List.of("batch", "B", "C"), first.getExecuted());
+        assertEquals(List.of("batch"), interrupted.getExecuted());
+        assertEquals(List.of("C"), onlyC.getExecuted());
+
+        gen.executeBatch(null);
+        PipelineTestContext other = new PipelineTestContext(PipelineTestType.BIZ5, new MatchAllFilterSelector());
+        assertThrows(ExtensionException.class, () -> gen.executeBatch(List.of(first, other)));
+        assertTrue(other.getExecuted().isEmpty());
+    }
+
+    @Test
+    @DisplayName("监控：探针记录 filter 执行、跳过、中断和整体耗时")
+    void testMonitor() {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        PipelineMonitorHolder.setMonitor((type, filterNames) -> new PipelineProbe() {
+            @Override
+            public boolean isEnabled() {
+                return true;
+            }
+
+            @Override
+            public void onFilter(int index, long nanos) {
+                events.add(type.getType() + ":filter:" + filterNames.get(index));
+            }
+
+            @Override
+            public void onSkip(int index) {
+                events.add(type.getType() + ":skip:" + filterNames.get(index));
+            }
+
+            @Override
+            public void onInterrupt(int index) {
+                events.add(type.getType() + ":interrupt:" + filterNames.get(index));
+            }
+
+            @Override
+            public void onComplete(int depth, long nanos, Throwable error) {
+                events.add(type.getType() + ":complete:" + depth);
+            }
+        });
+        try {
+            executor.execute(new PipelineTestContext(PipelineTestType.BIZ2, createSelector(PipelineTestType.BIZ2)));
+            assertEquals(List.of("BIZ2:skip:PipelineTestFilterA", "BIZ2:filter:PipelineTestFilterB",
+                    "BIZ2:filter:PipelineTestFilterC", "BIZ2:complete:3"), events);
+
+            events.clear();
+            PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+            context.setContinueChain(false);
+            executor.execute(context);
+            assertEquals(List.of("BIZ4:filter:PipelineTestFilterA", "BIZ4:interrupt:PipelineTestFilterA",
+                    "BIZ4:complete:1"), events);
+        } finally {
+            PipelineMonitorHolder.setMonitor(null);
+        }
+    }
+
+    @Test
+    @DisplayName("跟踪：记录 filter 执行、跳过、中断的时间线，环形缓冲区复用记录")
+    void testTracer() {
+        List<PipelineTrace> traces = new ArrayList<>();
+        PipelineTracer tracer = new PipelineTracer(2, 8, trace -> traces.add(trace.copy()));
+        executor.setTracer(tracer);
+
+        executor.execute(new PipelineTestContext(PipelineTestType.BIZ2, createSelector(PipelineTestType.BIZ2)));
+        PipelineTrace trace = traces.get(0);
+        assertEquals(3, trace.size());
+        assertEquals("PipelineTestFilterA", trace.getFilterName(0));
+        assertEquals(PipelineTrace.Status.SKIPPED, trace.getStatus(0));
+        assertEquals(PipelineTrace.Status.EXECUTED, trace.getStatus(1));
+        assertEquals(PipelineTrace.Status.EXECUTED, trace.getStatus(2));
+        assertTrue(trace.getOffset(2) >= trace.getOffset(1));
+        assertEquals(3, trace.getDepth());
+
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        context.setContinueChain(false);
+        executor.execute(context);
+        assertEquals(1, traces.get(1).size());
+        assertEquals(PipelineTrace.Status.INTERRUPTED, traces.get(1).getStatus(0));
+
+        executor.execute(new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector()));
+        List<PipelineTrace> recent = tracer.recent();
+        assertEquals(2, recent.size());
+        assertEquals(3, recent.get(0).size());
+        assertEquals(PipelineTestType.BIZ4, recent.get(1).getType());
+        assertEquals(0, tracer.getDropped());
+    }
+
+    @Test
+    @DisplayName("跟踪：缓冲区均在执行中时有限次尝试后放弃，记录丢弃次数")
+    void testTracer_saturated() {
+        PipelineTracer tracer = new PipelineTracer(16, 8, null);
+        List<String> filterNames = List.of("PipelineTestFilterA");
+        List<PipelineProbe> probes = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            probes.add(tracer.begin(PipelineProbe.NOOP, PipelineTestType.BIZ1, filterNames));
+        }
+        assertFalse(probes.contains(PipelineProbe.NOOP));
+        assertSame(PipelineProbe.NOOP, tracer.begin(PipelineProbe.NOOP, PipelineTestType.BIZ1, filterNames));
+        assertSame(PipelineProbe.NOOP, tracer.begin(PipelineProbe.NOOP, PipelineTestType.BIZ1, filterNames));
+        assertEquals(2, tracer.getDropped());
+
+        probes.forEach(probe -> probe.onComplete(0, 0L, null));
+        assertNotSame(PipelineProbe.NOOP, tracer.begin(PipelineProbe.NOOP, PipelineTestType.BIZ1, filterNames));
+        assertEquals(15, tracer.recent().size());
+    }
+
+    @Test
+    @DisplayName("跟踪：自定义 doFilter 之后的 filter 记录到本次执行的时间线")
+    void testTracer_customDoFilter() {
+        List<PipelineTrace> traces = new ArrayList<>();
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        gen.appendFilter(filterA, "A");
+        gen.appendFilter(new PipelineFilter<>() {
+            @Override
+            public void doFilter(PipelineTestContext context, PipelineFilterChain<PipelineTestContext> filterChain) {
+                filterChain.next(context);
+            }
+        }, "custom");
+        gen.appendFilter(filterC, "C");
+        gen.setTracer(new PipelineTracer(2, 8, trace -> traces.add(trace.copy())));
+        gen.execute(new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector()));
+        PipelineTrace trace = traces.get(0);
+        assertEquals(2, trace.size());
+        assertEquals("PipelineTestFilterC", trace.getFilterName(1));
+        assertEquals(PipelineTrace.Status.EXECUTED, trace.getStatus(1));
+    }
+
+    @Test
+    @DisplayName("Selector 注册表：属性源变化后 refresh 从 Environment 重新绑定配置")
+    void testSelectorRegistry_rebind() {
+        FilterSelectorRegistry registry = pipelineRegistry.getSelectorRegistry();
+        assertTrue(registry.getSelector(PipelineTestType.BIZ1).matchFilter("PipelineTestFilterA"));
+        assertFalse(registry.refresh());
+        environment.getPropertySources().addFirst(new MapPropertySource("testSelectorRegistry_rebind",
+                Map.of("x-boot.pipeline.filter-selectors.BIZ1", "PipelineTestFilterB")));
+        try {
+            assertTrue(registry.refresh());
+            FilterSelector selector = registry.getSelector(PipelineTestType.BIZ1);
+            assertFalse(selector.matchFilter("PipelineTestFilterA"));
+            assertTrue(selector.matchFilter("PipelineTestFilterB"));
+        } finally {
+            environment.getPropertySources().remove("testSelectorRegistry_rebind");
+            registry.refresh();
+        }
+        assertTrue(registry.getSelector(PipelineTestType.BIZ1).matchFilter("PipelineTestFilterA"));
+    }
+
+    @Test
+    @DisplayName("Selector 注册表：刷新后新 context 使用新配置，执行中的 context 不受影响")
+    void testSelectorRegistry_refresh() {
+        Map<String, List<String>> config = new HashMap<>(Map.of("BIZ1", List.of("PipelineTestFilterA")));
+        FilterSelectorRegistry registry = new FilterSelectorRegistry(() -> config);
+        PipelineTestContext before = new PipelineTestContext(PipelineTestType.BIZ1, registry.getSelector(PipelineTestType.BIZ1));
+        assertFalse(registry.refresh());
+
+        config.put("BIZ1", List.of("PipelineTestFilterB", "PipelineTestFilterC"));
+        config.put("BIZ2", List.of("off"));
+        assertTrue(registry.refresh());
+        PipelineTestContext after = new PipelineTestContext(PipelineTestType.BIZ1, registry.getSelector(PipelineTestType.BIZ1));
+        executor.execute(before);
+        executor.execute(after);
+        assertEquals(List.of("A"), before.getExecuted());
+        assertEquals(List.of("B", "C"), after.getExecuted());
+        assertInstanceOf(DummyFilterSelector.class, registry.getSelector("BIZ2"));
+
+        config.put("BIZ3", List.of());
+        assertThrows(ExtensionException.class, registry::refresh);
+        assertFalse(registry.getFilterSelectors().containsKey("BIZ3"));
+        assertThrows(ExtensionException.class, () -> registry.getSelector("BIZ3"));
+    }
+
+    @Test
+    @DisplayName("注册表：按 @Order 自动构建执行器，按配置创建 selector")
+    void testPipelineRegistry() {
+        PipelineExecutor<PipelineTestContext> registered = pipelineRegistry.getExecutor(PipelineTestContext.class);
+        assertEquals(List.of("PipelineTestFilterA", "PipelineTestFilterB", "PipelineTestFilterC"),
+                registered.getPlan().getFilterNames());
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ1,
+                pipelineRegistry.getSelector(PipelineTestType.BIZ1));
+        pipelineRegistry.execute(context);
+        assertEquals(List.of("A", "C"), context.getExecuted());
+        assertThrows(ExtensionException.class, () -> pipelineRegistry.getSelector(PipelineTestType.BIZ2));
+    }
+
+    @Test
+    @DisplayName("注册表：filter-selectors 中存在未知 filter 时启动失败")
+    void testPipelineRegistry_unknownFilter() {
+        List<PipelineFilter<?>> filters = List.of(filterA, filterB);
+        Map<String, List<String>> config = Map.of("BIZ1", List.of("PipelineTestFilterA", "NotExistFilter"));
+        ExtensionException e = assertThrows(ExtensionException.class,
+                () -> new PipelineRegistry(filters, () -> config, null, true));
+        assertTrue(e.getMessage().contains("NotExistFilter"));
+        PipelineRegistry lenient = new PipelineRegistry(filters, () -> config, null, false);
+        assertNotNull(lenient.getSelector(PipelineTestType.BIZ1));
+    }
+
+    @Test
+    @DisplayName("注册表：filter 声明接口类型的上下文时，按上下文实现的接口查找执行器")
+    void testPipelineRegistry_interfaceContext() {
+        PipelineRegistry registry = new PipelineRegistry(List.of(new TaggedFilter()), Map::of, null, true);
+        TaggedTestContext context = new TaggedTestContext();
+        registry.execute(context);
+        assertEquals(List.of("tagged"), context.getExecuted());
+        assertSame(registry.getExecutor(TaggedContext.class), registry.getExecutor(TaggedTestContext.class));
+        assertThrows(ExtensionException.class, () -> registry.getExecutor(PipelineTestContext.class));
+    }
+
+    @Test
+    @DisplayName("注册表：不同包下的同名 filter 无法通过 filter-selectors 区分，启动失败")
+    void testPipelineRegistry_duplicateName() {
+        List<PipelineFilter<?>> filters = List.of(new TaggedFilter(), new Duplicate.TaggedFilter());
+        ExtensionException e = assertThrows(ExtensionException.class,
+                () -> new PipelineRegistry(filters, Map::of, null, true));
+        assertTrue(e.getMessage().contains("'TaggedFilter'"));
+        // 同一个类的多个实例不冲突
+        assertDoesNotThrow(() -> new PipelineRegistry(List.of(new TaggedFilter(), new TaggedFilter()), Map::of, null, true));
+    }
+
+    @Test
+    @DisplayName("注册表：CGLIB 代理的 filter 以被代理类的简单类名注册，filter-selectors 可以引用")
+    void testPipelineRegistry_proxiedFilter() {
+        ProxyFactory factory = new ProxyFactory(new TaggedFilter());
+        factory.setProxyTargetClass(true);
+        PipelineFilter<?> proxy = (PipelineFilter<?>) factory.getProxy();
+        assertNotEquals(TaggedFilter.class, proxy.getClass());
+        PipelineRegistry registry = new PipelineRegistry(List.of(proxy),
+                () -> Map.of(PipelineTestType.BIZ1.getType(), List.of("TaggedFilter")), null, true);
+        assertEquals(List.of("TaggedFilter"), registry.getExecutor(TaggedContext.class).getPlan().getFilterNames());
+        TaggedTestContext context = new TaggedTestContext();
+        registry.execute(context);
+        assertEquals(List.of("tagged"), context.getExecuted());
+    }
+
+    @Test
+    @DisplayName("熔断：连续失败达到阈值后熔断，SKIP 策略调用 fallback 并继续执行")
+    void testGuard_circuitBreaker() {
+        PipelineGuardPolicy policy = new PipelineGuardPolicy();
+        policy.setFailureThreshold(2);
+        policy.setOpenDuration(Duration.ofMinutes(1));
+        policy.setFallback(PipelineGuardPolicy.Fallback.SKIP);
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        FlakyFilter flaky = new FlakyFilter();
+        gen.appendFilter(flaky, "flaky");
+        gen.appendFilter(filterC, "C");
+        gen.setGuardPolicies(Map.of(PipelineTestType.BIZ4.getType(), policy));
+        for (int i = 0; i < 3; i++) {
+            PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+            gen.execute(context);
+            assertEquals(List.of("fallback", "C"), context.getExecuted());
+        }
+        assertEquals(2, flaky.calls.get());
+        assertTrue(gen.getPlan().getCircuitBreaker(PipelineTestType.BIZ4, 0).isOpen());
+
+        policy.setFallback(PipelineGuardPolicy.Fallback.FAIL);
+        gen.setGuardPolicies(Map.of(PipelineTestType.BIZ4.getType(), policy));
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        assertThrows(IllegalStateException.class, () -> gen.execute(context));
+    }
+
+    @Test
+    @DisplayName("熔断：半开状态的试探调用抛出 Error 后重新熔断，到期后继续放行试探调用")
+    void testGuard_circuitBreakerError() throws InterruptedException {
+        PipelineGuardPolicy policy = new PipelineGuardPolicy();
+        policy.setFailureThreshold(1);
+        policy.setOpenDuration(Duration.ofMillis(10));
+        AtomicInteger calls = new AtomicInteger();
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        gen.appendFilter(new AbstractPipelineFilter<>() {
+            @Override
+            public void handle(PipelineTestContext context) {
+                switch (calls.incrementAndGet()) {
+                    case 1 -> throw new IllegalStateException("open");
+                    case 2 -> throw new AssertionError("probe");
+                    default -> context.getExecuted().add("probe");
+                }
+            }
+        }, "probe");
+        gen.setGuardPolicies(Map.of(PipelineTestType.BIZ4.getType(), policy));
+        assertThrows(IllegalStateException.class,
+                () -> gen.execute(new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector())));
+        Thread.sleep(20);
+        assertThrows(AssertionError.class,
+                () -> gen.execute(new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector())));
+        assertTrue(gen.getPlan().getCircuitBreaker(PipelineTestType.BIZ4, 0).isOpen());
+        Thread.sleep(20);
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        gen.execute(context);
+        assertEquals(List.of("probe"), context.getExecuted());
+        assertFalse(gen.getPlan().getCircuitBreaker(PipelineTestType.BIZ4, 0).isOpen());
+    }
+
+    @Test
+    @DisplayName("超时：filter 默认在调用线程中执行，结束后超时按失败处理")
+    void testGuard_filterTimeout() {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            PipelineGuardPolicy policy = new PipelineGuardPolicy();
+            policy.setFilterTimeout(Duration.ofMillis(50));
+            Map<String, String> threads = new ConcurrentHashMap<>();
+            PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>(pool);
+            gen.appendFilter(new AbstractPipelineFilter<>() {
+                @Override
+                public void handle(PipelineTestContext context) {
+                    threads.put("P1", Thread.currentThread().getName());
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, "P1");
+            gen.appendFilter(filterC, "C");
+            gen.setGuardPolicies(Map.of(PipelineTestType.BIZ4.getType(), policy));
+            PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+            assertThrows(PipelineTimeoutException.class, () -> gen.execute(context));
+            assertEquals(Thread.currentThread().getName(), threads.get("P1"));
+            assertFalse(context.getExecuted().contains("C"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("超时：开启 interruptOnTimeout 时 filter 在线程池中执行，超时后中断并放弃等待")
+    void testGuard_interruptOnTimeout() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            PipelineGuardPolicy policy = new PipelineGuardPolicy();
+            policy.setFilterTimeout(Duration.ofMillis(200));
+            policy.setInterruptOnTimeout(true);
+            Map<String, String> threads = new ConcurrentHashMap<>();
+            CountDownLatch interrupted = new CountDownLatch(1);
+            PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>(pool);
+            gen.appendFilter(new AbstractPipelineFilter<>() {
+                @Override
+                public void handle(PipelineTestContext context) {
+                    threads.put("P1", Thread.currentThread().getName());
+                    try {
+                        // 不会被释放，只能通过中断结束
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                }
+            }, "P1");
+            gen.appendFilter(filterC, "C");
+            gen.setGuardPolicies(Map.of(PipelineTestType.BIZ4.getType(), policy));
+            PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+            assertThrows(PipelineTimeoutException.class, () -> gen.execute(context));
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            assertNotEquals(Thread.currentThread().getName(), threads.get("P1"));
+            assertFalse(context.getExecuted().contains("C"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("超时：自定义 doFilter 的 chain.next 沿用 pipeline 截止时间")
+    void testGuard_customDoFilterDeadline() {
+        PipelineGuardPolicy policy = new PipelineGuardPolicy();
+        policy.setPipelineTimeout(Duration.ofMillis(50));
+        PipelineExecutor<PipelineTestContext> gen = new PipelineExecutor<>();
+        gen.appendFilter(new PipelineFilter<>() {
+            @Override
+            public void doFilter(PipelineTestContext context, PipelineFilterChain<PipelineTestContext> filterChain) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                filterChain.next(context);
+            }
+        }, "custom");
+        gen.appendFilter(filterC, "C");
+        gen.setGuardPolicies(Map.of(PipelineTestType.BIZ4.getType(), policy));
+        PipelineTestContext context = new PipelineTestContext(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        assertThrows(PipelineTimeoutException.class, () -> gen.execute(context));
+        assertFalse(context.getExecuted().contains("C"));
+    }
+
+    @Test
+    @DisplayName("上下文池：归还后重置并复用，共享 selector，debug 模式检测归还后使用")
+    void testContextPool() {
+        FilterSelector selector = new MatchAllFilterSelector();
+        AtomicInteger created = new AtomicInteger();
+        PipelineContextPool<PooledTestContext> pool = new PipelineContextPool<>(() -> {
+            created.incrementAndGet();
+            return new PooledTestContext();
+        }, type -> selector, 4, true);
+        PipelineExecutor<PooledTestContext> pooledExecutor = new PipelineExecutor<>();
+        pooledExecutor.appendFilter(new CountFilter(), "CountFilter");
+
+        PooledTestContext first;
+        try (PooledTestContext context = pool.acquire(PipelineTestType.BIZ1)) {
+            pooledExecutor.execute(context);
+            assertEquals(1, context.count);
+            first = context;
+        }
+        assertEquals(1, pool.idleSize());
+        PooledTestContext second = pool.acquire(PipelineTestType.BIZ2);
+        assertSame(first, second);
+        assertEquals(0, second.count);
+        assertSame(selector, second.getFilterSelector());
+        assertEquals(PipelineTestType.BIZ2, second.getPipelineType());
+        second.release();
+        assertEquals(1, created.get());
+
+        ExtensionException e = assertThrows(ExtensionException.class, () -> pooledExecutor.execute(second));
+        assertNotNull(e.getCause());
+        assertThrows(ExtensionException.class, second::release);
+    }
+
+    interface TaggedContext extends PipelineContext {
+    }
+
+    static class TaggedTestContext extends PipelineTestContext implements TaggedContext {
+
+        TaggedTestContext() {
+            super(PipelineTestType.BIZ4, new MatchAllFilterSelector());
+        }
+    }
+
+    static class TaggedFilter extends AbstractPipelineFilter<TaggedContext> {
+
+        @Override
+        public void handle(TaggedContext context) {
+            ((TaggedTestContext) context).getExecuted().add("tagged");
+        }
+    }
+
+    static class Duplicate {
+
+        static class TaggedFilter extends AbstractPipelineFilter<PipelineTestContext> {
+
+            @Override
+            public void handle(PipelineTestContext context) {
+            }
+        }
+    }
+
+    static class PooledTestContext extends AbstractPooledPipelineContext {
+
+        private int count;
+
+        @Override
+        protected void reset() {
+            count = 0;
+        }
+
+        @Override
+        public boolean continueChain() {
+            return true;
+        }
+    }
+
+    static class CountFilter extends AbstractPipelineFilter<PooledTestContext> {
+
+        @Override
+        public void handle(PooledTestContext context) {
+            context.count++;
+        }
+    }
+
+    static class FlakyFilter extends AbstractPipelineFilter<PipelineTestContext> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void handle(PipelineTestContext context) {
+            calls.incrementAndGet();
+            throw new IllegalStateException("flaky");
+        }
+
+        @Override
+        public void fallback(PipelineTestContext context, Throwable cause) {
+            context.getExecuted().add("fallback");
+        }
+    }
+
+    static class DelayedAsyncFilter extends AbstractAsyncPipelineFilter<PipelineTestContext> {
+
+        private final boolean interrupt;
+
+        private final RuntimeException failure;
+
+        DelayedAsyncFilter(boolean interrupt, RuntimeException failure) {
+            this.interrupt = interrupt;
+            this.failure = failure;
+        }
+
+        @Override
+        public CompletionStage<Void> handleAsync(PipelineTestContext context) {
+            return CompletableFuture.runAsync(() -> {
+                if (failure != null) {
+                    throw failure;
+                }
+                context.getExecuted().add("async");
+                context.setContinueChain(!interrupt);
+            }, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @IndependentFilter
+    static abstract class SlowFilter extends AbstractPipelineFilter<PipelineTestContext> {
+
+        static final long SLEEP_MILLIS = 300;
+
+        @Override
+        public void handle(PipelineTestContext context) {
+            fork(context).accept(context);
+        }
+
+        @Override
+        public Consumer<PipelineTestContext> fork(PipelineTestContext context) {
+            try {
+                Thread.sleep(SLEEP_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String name = "P" + getClass().getSimpleName().substring("SlowFilter".length());
+            return ctx -> ctx.getExecuted().add(name);
+        }
+    }
+
+    static class SlowFilter1 extends SlowFilter {
+    }
+
+    @IndependentFilter
+    static abstract class StageFilter extends AbstractPipelineFilter<PipelineTestContext> {
+
+        private final CountDownLatch started;
+
+        private final Map<String, String> threads;
+
+        StageFilter(CountDownLatch started, Map<String, String> threads) {
+            this.started = started;
+            this.threads = threads;
+        }
+
+        @Override
+        public void handle(PipelineTestContext context) {
+            fork(context).accept(context);
+        }
+
+        @Override
+        public Consumer<PipelineTestContext> fork(PipelineTestContext context) {
+            String name = "P" + getClass().getSimpleName().substring("StageFilter".length());
+            threads.put(name, Thread.currentThread().getName());
+            started.countDown();
+            try {
+                if (!started.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException(name + " not overlapped");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ctx -> ctx.getExecuted().add(name);
+        }
+    }
+
+    static class StageFilter1 extends StageFilter {
+
+        StageFilter1(CountDownLatch started, Map<String, String> threads) {
+            super(started, threads);
+        }
+    }
+
+    static class StageFilter2 extends StageFilter {
+
+        StageFilter2(CountDownLatch started, Map<String, String> threads) {
+            super(started, threads);
+        }
+    }
+
+    static class StageFilter3 extends StageFilter {
+
+        StageFilter3(CountDownLatch started, Map<String, String> threads) {
+            super(started, threads);
+        }
+    }
+
+    @IndependentFilter
+    static class NoForkFilter extends AbstractPipelineFilter<PipelineTestContext> {
+
+        @Override
+        public void handle(PipelineTestContext context) {
+        }
+    }
+
+    @IndependentFilter
+    static class FailFilter extends AbstractPipelineFilter<PipelineTestContext> {
+
+        @Override
+        public void handle(PipelineTestContext context) {
+            throw new IllegalStateException("fail");
+        }
+
+        @Override
+        public Consumer<PipelineTestContext> fork(PipelineTestContext context) {
+            handle(context);
+            return null;
+        }
+    }
 }
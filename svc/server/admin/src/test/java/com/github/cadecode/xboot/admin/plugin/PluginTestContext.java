@@ -0,0 +1,13 @@
+package com.github.cadecode.xboot.admin.plugin;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.extension.plugin.PluginContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PluginTestContext implements PluginContext {
+
+    private final ExtensionType pluginType;
+}
@@ -0,0 +1,24 @@
+package com.github.cadecode.xboot.admin.plugin;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.extension.plugin.TypedPluginService;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+@Order(1)
+@Component
+public class PluginTestPluginA implements PluginTestService, TypedPluginService {
+
+    @Override
+    public Collection<? extends ExtensionType> getPluginTypes() {
+        return List.of(PluginTestType.TYPE_A);
+    }
+
+    @Override
+    public String name() {
+        return "A";
+    }
+}
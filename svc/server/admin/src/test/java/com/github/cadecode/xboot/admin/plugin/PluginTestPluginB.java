@@ -0,0 +1,20 @@
+package com.github.cadecode.xboot.admin.plugin;
+
+import com.github.cadecode.xboot.common.extension.plugin.PluginContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Order(2)
+@Component
+public class PluginTestPluginB implements PluginTestService {
+
+    @Override
+    public boolean supports(PluginContext context) {
+        return context.getPluginType() != PluginTestType.TYPE_C;
+    }
+
+    @Override
+    public String name() {
+        return "B";
+    }
+}
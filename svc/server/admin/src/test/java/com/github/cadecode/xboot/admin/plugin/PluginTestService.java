@@ -0,0 +1,8 @@
+package com.github.cadecode.xboot.admin.plugin;
+
+import com.github.cadecode.xboot.common.extension.plugin.PluginService;
+
+public interface PluginTestService extends PluginService {
+
+    String name();
+}
@@ -0,0 +1,15 @@
+package com.github.cadecode.xboot.admin.plugin;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PluginTestType implements ExtensionType {
+    TYPE_A("TYPE_A"),
+    TYPE_B("TYPE_B"),
+    TYPE_C("TYPE_C"),
+    ;
+    private final String type;
+}
@@ -0,0 +1,464 @@
+package com.github.cadecode.xboot.admin.plugin;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.exception.ExtensionException;
+import com.github.cadecode.xboot.common.exception.PluginTimeoutException;
+import com.github.cadecode.xboot.common.extension.plugin.PluginContext;
+import com.github.cadecode.xboot.common.extension.plugin.PluginExecutor;
+import com.github.cadecode.xboot.common.extension.plugin.PluginIndex;
+import com.github.cadecode.xboot.common.extension.plugin.PluginResult;
+import com.github.cadecode.xboot.common.extension.plugin.PluginSelectorExecutor;
+import com.github.cadecode.xboot.common.extension.plugin.PluginService;
+import com.github.cadecode.xboot.common.extension.plugin.TypeOnlySupports;
+import com.github.cadecode.xboot.common.extension.plugin.monitor.PluginMonitor;
+import com.github.cadecode.xboot.common.util.SpringUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.plugin.core.PluginRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+// SpringUtil 仅由 mica-auto 写入 spring.factories，Spring Boot 3 不再从中加载，testRefresh_registerBean 需要显式导入
+@Import(SpringUtil.class)
+public class PluginTests {
+
+    @Autowired
+    private PluginExecutor pluginExecutor;
+
+    @Autowired
+    private PluginTestPluginA pluginA;
+
+    @Autowired
+    private PluginTestPluginB pluginB;
+
+    @Test
+    @DisplayName("索引：TypedPluginService 按业务类型命中，其余插件调用 supports，保持注册顺序")
+    void testSelect_indexed() {
+        PluginSelectorExecutor executor = (PluginSelectorExecutor) pluginExecutor;
+        assertEquals("A", executor.submit(PluginTestService.class, new PluginTestContext(PluginTestType.TYPE_A), PluginTestService::name));
+        assertEquals(List.of("A", "B"), executor.submitAll(PluginTestService.class,
+                new PluginTestContext(PluginTestType.TYPE_A), PluginTestService::name));
+        assertEquals(List.of("B"), executor.submitAll(PluginTestService.class,
+                new PluginTestContext(PluginTestType.TYPE_B), PluginTestService::name));
+        assertTrue(executor.selectService(PluginTestService.class, new PluginTestContext(PluginTestType.TYPE_C)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("索引：按 PluginService 子类型过滤")
+    void testSelect_bySubtype() {
+        PluginIndex index = new PluginIndex(List.of(pluginA, pluginB));
+        Optional<PluginTestPluginB> selected = index.selectFirst(PluginTestPluginB.class, new PluginTestContext(PluginTestType.TYPE_A));
+        assertSame(pluginB, selected.orElseThrow());
+        assertEquals(List.of(pluginA, pluginB), index.selectAll(PluginService.class, new PluginTestContext(PluginTestType.TYPE_A)));
+        assertTrue(index.selectAll(Runnable.class, new PluginTestContext(PluginTestType.TYPE_A)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("选择缓存：候选插件均为 type-only 时按业务类型缓存，不再调用 supports")
+    void testSelectCache() {
+        CountingPlugin counting = new CountingPlugin();
+        PluginIndex index = new PluginIndex(List.of(pluginA, counting), true);
+        PluginTestContext context = new PluginTestContext(PluginTestType.TYPE_B);
+        for (int i = 0; i < 3; i++) {
+            assertSame(counting, index.selectFirst(PluginTestService.class, context).orElseThrow());
+        }
+        assertEquals(1, counting.calls.get());
+        assertEquals(List.of(pluginA), index.selectAll(PluginTestService.class, new PluginTestContext(PluginTestType.TYPE_A)));
+
+        // 存在未标记的插件时不缓存
+        PluginIndex uncached = new PluginIndex(List.of(counting, pluginB), true);
+        uncached.selectFirst(PluginTestService.class, context);
+        uncached.selectFirst(PluginTestService.class, context);
+        assertEquals(4, counting.calls.get());
+    }
+
+    @Test
+    @DisplayName("选择缓存：SpringUtil 动态注册与注销插件后重建索引")
+    void testRefresh_registerBean() {
+        PluginTestContext context = new PluginTestContext(PluginTestType.TYPE_C);
+        assertTrue(((PluginSelectorExecutor) pluginExecutor).selectService(PluginTestService.class, context).isEmpty());
+        SpringUtil.registerBean("pluginTestCountingPlugin", new CountingPlugin());
+        try {
+            assertEquals("counting", pluginExecutor.submit(PluginTestService.class, context, PluginTestService::name));
+        } finally {
+            SpringUtil.unregisterBean("pluginTestCountingPlugin");
+        }
+        assertTrue(((PluginSelectorExecutor) pluginExecutor).selectService(PluginTestService.class, context).isEmpty());
+    }
+
+    @Test
+    @DisplayName("并行执行：按插件顺序返回结果，单个插件失败不影响其他插件")
+    void testSubmitAllParallel() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                    new SleepPlugin("s1", 0, false), new SleepPlugin("fail", 0, true), new SleepPlugin("s2", 0, false))));
+            executor.setParallelExecutor(pool);
+            // s1 与 s2 互相等待，串行执行时先执行的插件等待超时
+            CountDownLatch together = new CountDownLatch(2);
+            List<PluginResult<String>> results = executor.submitAllParallel(PluginTestService.class,
+                    new PluginTestContext(PluginTestType.TYPE_A), p -> awaitTogether(together, p.name()));
+            assertEquals(3, results.size());
+            assertEquals("s1", results.get(0).value());
+            assertInstanceOf(IllegalStateException.class, results.get(1).error());
+            assertEquals("s2", results.get(2).value());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("并行执行：并发数受限，超时未完成的插件返回 PluginTimeoutException")
+    void testSubmitAllParallel_timeout() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                    new SleepPlugin("fast", 0, false), new SleepPlugin("s1", 300, false), new SleepPlugin("s2", 300, false))));
+            executor.setParallelExecutor(pool);
+            executor.setMaxConcurrency(1);
+            executor.setParallelTimeout(Duration.ofMillis(100));
+            List<PluginResult<Void>> results = executor.executeAllParallel(PluginTestService.class,
+                    new PluginTestContext(PluginTestType.TYPE_A), PluginTestService::name);
+            assertTrue(results.get(0).isSuccess());
+            assertInstanceOf(PluginTimeoutException.class, results.get(1).error());
+            assertInstanceOf(PluginTimeoutException.class, results.get(2).error());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("并行执行：线程池拒绝时不在调用线程中执行插件")
+    void testSubmitAllParallel_rejected() {
+        PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                new SleepPlugin("s1", 0, false), new SleepPlugin("s2", 0, false), new SleepPlugin("s3", 0, false))));
+        Thread caller = Thread.currentThread();
+        executor.setParallelExecutor(command -> {
+            throw new RejectedExecutionException("full");
+        });
+        List<PluginResult<Thread>> rejected = executor.submitAllParallel(PluginTestService.class,
+                new PluginTestContext(PluginTestType.TYPE_A), p -> Thread.currentThread());
+        assertEquals(3, rejected.size());
+        rejected.forEach(result -> assertInstanceOf(RejectedExecutionException.class, result.error()));
+
+        // 只接受第一个 worker 时，剩余插件由该 worker 领取
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            AtomicInteger accepted = new AtomicInteger();
+            executor.setParallelExecutor(command -> {
+                if (accepted.getAndIncrement() > 0) {
+                    throw new RejectedExecutionException("full");
+                }
+                pool.execute(command);
+            });
+            List<PluginResult<Thread>> results = executor.submitAllParallel(PluginTestService.class,
+                    new PluginTestContext(PluginTestType.TYPE_A), p -> Thread.currentThread());
+            assertEquals(3, results.size());
+            results.forEach(result -> assertNotSame(caller, result.value()));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("短路执行：按顺序执行，第一个非 null 结果胜出，后续插件不再判断")
+    void testSubmitFirst() {
+        CountingPlugin counting = new CountingPlugin();
+        PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                new SleepPlugin("skip", 0, false), new SleepPlugin("s1", 0, false), counting)));
+        Optional<String> result = executor.submitFirst(PluginTestService.class, new PluginTestContext(PluginTestType.TYPE_B),
+                p -> p.name().startsWith("skip") ? null : p.name());
+        assertEquals("s1", result.orElseThrow());
+        assertEquals(0, counting.calls.get());
+        assertTrue(executor.submitFirst(PluginTestService.class, new PluginTestContext(PluginTestType.TYPE_B), p -> null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("短路执行：前 k 个插件竞速，最快的非 null 结果胜出")
+    void testSubmitFirst_race() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                    new SleepPlugin("s1", 0, false), new SleepPlugin("s2", 0, false), new SleepPlugin("s3", 0, false))));
+            executor.setParallelExecutor(pool);
+            // s1 在返回结果后才放行，竞速不应等待 s1 完成
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicBoolean slowDone = new AtomicBoolean();
+            Optional<String> result = executor.submitFirst(PluginTestService.class, new PluginTestContext(PluginTestType.TYPE_A),
+                    p -> {
+                        if (!"s1".equals(p.name())) {
+                            return p.name();
+                        }
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return null;
+                        }
+                        slowDone.set(true);
+                        return p.name();
+                    }, 2);
+            assertEquals("s2", result.orElseThrow());
+            assertFalse(slowDone.get());
+            release.countDown();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("短路执行：线程池饱和时竞速插件在调用线程执行，抛出的异常不影响其他插件")
+    void testSubmitFirst_raceRejected() {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                    new SleepPlugin("s1", 0, false), new SleepPlugin("fail", 0, true), new SleepPlugin("s3", 0, false))));
+            // 只接受第一个竞速插件，其余在调用线程执行
+            AtomicInteger submitted = new AtomicInteger();
+            executor.setParallelExecutor(command -> {
+                if (submitted.getAndIncrement() > 0) {
+                    throw new RejectedExecutionException("full");
+                }
+                pool.execute(command);
+            });
+            PluginTestContext context = new PluginTestContext(PluginTestType.TYPE_A);
+            assertEquals("s1", executor.submitFirst(PluginTestService.class, context, PluginTestService::name, 2).orElseThrow());
+
+            executor.setParallelExecutor(command -> {
+                throw new RejectedExecutionException("full");
+            });
+            assertEquals("s3", executor.submitFirst(PluginTestService.class, context,
+                    p -> "s1".equals(p.name()) ? null : p.name(), 2).orElseThrow());
+            assertThrows(IllegalStateException.class, () -> executor.submitFirst(PluginTestService.class, context,
+                    p -> "fail".equals(p.toString()) ? p.name() : null, 3));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("短路执行：竞速超时后交给后续插件，没有插件处理时抛出超时异常")
+    void testSubmitFirst_raceTimeout() {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                    new SleepPlugin("s1", 1000, false), new SleepPlugin("s2", 1000, false), new SleepPlugin("s3", 0, false))));
+            executor.setParallelExecutor(pool);
+            executor.setParallelTimeout(Duration.ofMillis(50));
+            PluginTestContext context = new PluginTestContext(PluginTestType.TYPE_A);
+            assertEquals("s3", executor.submitFirst(PluginTestService.class, context, PluginTestService::name, 2).orElseThrow());
+            assertThrows(PluginTimeoutException.class, () -> executor.submitFirst(PluginTestService.class, context,
+                    p -> "s3".equals(p.name()) ? null : p.name(), 2));
+            assertTrue(executor.submitFirst(PluginTestService.class, context, p -> null, 3).isEmpty());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("异步执行：不阻塞调用线程，按插件顺序组合结果，插件失败时以第一个异常完成")
+    void testSubmitAllAsync() {
+        PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                new SleepPlugin("s1", 0, false), new SleepPlugin("s2", 0, false))));
+        PluginTestContext context = new PluginTestContext(PluginTestType.TYPE_A);
+        // 插件的 future 由测试手动完成，返回时均未完成，且 s2 先于 s1 完成
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        CompletableFuture<List<String>> future = executor.submitAllAsync(PluginTestService.class, context,
+                p -> "s1".equals(p.name()) ? first : second);
+        assertFalse(future.isDone());
+        second.complete("s2");
+        assertFalse(future.isDone());
+        first.complete("s1");
+        assertEquals(List.of("s1", "s2"), future.join());
+
+        CompletableFuture<List<String>> failed = executor.submitAllAsync(PluginTestService.class, context,
+                p -> CompletableFuture.failedFuture(new IllegalStateException(p.name())));
+        CompletionException e = assertThrows(CompletionException.class, failed::join);
+        assertEquals("s1", e.getCause().getMessage());
+        CompletableFuture<String> notFound = pluginExecutor.submitAsync(PluginTestService.class,
+                new PluginTestContext(PluginTestType.TYPE_C), p -> CompletableFuture.completedFuture(p.name()));
+        assertInstanceOf(ExtensionException.class, assertThrows(CompletionException.class, notFound::join).getCause());
+    }
+
+    @Test
+    @DisplayName("接口默认方法：只实现依次执行的方法时，并行、短路与异步方法在调用线程中依次执行")
+    void testPluginExecutor_defaults() {
+        PluginSelectorExecutor delegate = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                new SleepPlugin("s1", 0, false), new SleepPlugin("fail", 0, true), new SleepPlugin("s2", 0, false))));
+        PluginExecutor executor = new PluginExecutor() {
+            @Override
+            public <S extends PluginService> void execute(Class<S> clazz, PluginContext context, Consumer<S> consumer) {
+                delegate.execute(clazz, context, consumer);
+            }
+
+            @Override
+            public <S extends PluginService> void executeAll(Class<S> clazz, PluginContext context, Consumer<S> consumer) {
+                delegate.executeAll(clazz, context, consumer);
+            }
+
+            @Override
+            public <R, S extends PluginService> R submit(Class<S> clazz, PluginContext context, Function<S, R> function) {
+                return delegate.submit(clazz, context, function);
+            }
+
+            @Override
+            public <R, S extends PluginService> List<R> submitAll(Class<S> clazz, PluginContext context, Function<S, R> function) {
+                return delegate.submitAll(clazz, context, function);
+            }
+        };
+        PluginTestContext context = new PluginTestContext(PluginTestType.TYPE_A);
+        List<PluginResult<String>> results = executor.submitAllParallel(PluginTestService.class, context, PluginTestService::name);
+        assertEquals("s1", results.get(0).value());
+        assertInstanceOf(IllegalStateException.class, results.get(1).error());
+        assertEquals("s2", results.get(2).value());
+
+        assertEquals("s1", executor.submitFirst(PluginTestService.class, context, PluginTestService::name, 2).orElseThrow());
+        assertTrue(executor.submitFirst(PluginTestPluginB.class, context, PluginTestService::name).isEmpty());
+        assertThrows(IllegalStateException.class, () -> executor.submitFirst(PluginTestService.class, context,
+                p -> "s1".equals(p.toString()) ? null : p.name()));
+
+        assertEquals(List.of("s1", "fail", "s2"), executor.submitAllAsync(PluginTestService.class, context,
+                p -> CompletableFuture.completedFuture(p.toString())).join());
+        CompletableFuture<String> notFound = executor.submitAsync(PluginTestPluginB.class, context,
+                p -> CompletableFuture.completedFuture(p.name()));
+        assertInstanceOf(ExtensionException.class, assertThrows(CompletionException.class, notFound::join).getCause());
+        CompletableFuture<Void> failed = executor.executeAllAsync(PluginTestService.class, context,
+                p -> CompletableFuture.supplyAsync(p::name));
+        assertEquals("fail", assertThrows(CompletionException.class, failed::join).getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("异步执行：回调与并行执行的插件中可以读取调用线程的 MDC")
+    void testAsync_propagateContext() {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        MDC.put("traceId", "plugin-trace");
+        try {
+            PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                    new SleepPlugin("s1", 0, false), new SleepPlugin("s2", 0, false))));
+            executor.setParallelExecutor(pool);
+            PluginTestContext context = new PluginTestContext(PluginTestType.TYPE_A);
+            String traceId = executor.submitAsync(PluginTestService.class, context,
+                            p -> CompletableFuture.supplyAsync(p::name, pool))
+                    .thenApply(name -> MDC.get("traceId"))
+                    .join();
+            assertEquals("plugin-trace", traceId);
+            List<PluginResult<String>> results = executor.submitAllParallel(PluginTestService.class, context,
+                    p -> MDC.get("traceId"));
+            assertEquals(List.of("plugin-trace", "plugin-trace"), results.stream().map(PluginResult::value).toList());
+        } finally {
+            MDC.clear();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("监控：记录选择耗时，以及每个插件的调用耗时与异常")
+    void testMonitor() {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        PluginSelectorExecutor executor = new PluginSelectorExecutor(PluginRegistry.of(List.of(
+                new SleepPlugin("s1", 0, false), new SleepPlugin("fail", 0, true))));
+        executor.setMonitor(new PluginMonitor() {
+            @Override
+            public void onSelect(Class<?> serviceType, ExtensionType type, long nanos) {
+                events.add("select:" + serviceType.getSimpleName() + ":" + type.getType());
+            }
+
+            @Override
+            public void onInvoke(Class<?> serviceType, PluginService plugin, ExtensionType type, long nanos, Throwable error) {
+                events.add("invoke:" + plugin + ":" + (error == null ? "ok" : "error"));
+            }
+        });
+        PluginTestContext context = new PluginTestContext(PluginTestType.TYPE_A);
+        assertThrows(IllegalStateException.class, () -> executor.submitAll(PluginTestService.class, context, PluginTestService::name));
+        assertEquals(List.of("select:PluginTestService:TYPE_A", "invoke:s1:ok", "invoke:fail:error"), events);
+    }
+
+    // 等待其他插件同时到达，超时返回 "timeout"
+    private static String awaitTogether(CountDownLatch latch, String name) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS) ? name : "timeout";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
+    }
+
+    static class SleepPlugin implements PluginTestService {
+
+        private final String name;
+
+        private final long sleepMillis;
+
+        private final boolean fail;
+
+        SleepPlugin(String name, long sleepMillis, boolean fail) {
+            this.name = name;
+            this.sleepMillis = sleepMillis;
+            this.fail = fail;
+        }
+
+        @Override
+        public boolean supports(PluginContext context) {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        @Override
+        public String name() {
+            if (fail) {
+                throw new IllegalStateException(name);
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return name;
+        }
+    }
+
+    @TypeOnlySupports
+    static class CountingPlugin implements PluginTestService {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public boolean supports(PluginContext context) {
+            calls.incrementAndGet();
+            return context.getPluginType() != PluginTestType.TYPE_A;
+        }
+
+        @Override
+        public String name() {
+            return "counting";
+        }
+    }
+}
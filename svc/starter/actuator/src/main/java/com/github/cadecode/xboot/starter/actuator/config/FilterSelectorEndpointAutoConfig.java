@@ -0,0 +1,32 @@
+package com.github.cadecode.xboot.starter.actuator.config;
+
+import com.github.cadecode.xboot.common.extension.pipeline.config.PipelineAutoConfig;
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorRegistry;
+import com.github.cadecode.xboot.starter.actuator.pipeline.FilterSelectorEndpoint;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Map;
+
+/**
+ * FilterSelector 端点自动配置
+ * <p>
+ * 在 PipelineAutoConfig 之后处理，存在 FilterSelectorRegistry 时注册端点
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@AutoConfiguration(after = PipelineAutoConfig.class)
+public class FilterSelectorEndpointAutoConfig {
+
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(FilterSelectorRegistry.class)
+    @ConditionalOnAvailableEndpoint(endpoint = FilterSelectorEndpoint.class)
+    @Bean
+    public FilterSelectorEndpoint filterSelectorEndpoint(Map<String, FilterSelectorRegistry> registries) {
+        return new FilterSelectorEndpoint(registries);
+    }
+}
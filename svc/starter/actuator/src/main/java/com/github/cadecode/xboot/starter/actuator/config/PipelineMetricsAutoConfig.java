@@ -0,0 +1,65 @@
+package com.github.cadecode.xboot.starter.actuator.config;
+
+import com.github.cadecode.xboot.common.extension.pipeline.PipelineRegistry;
+import com.github.cadecode.xboot.common.extension.pipeline.config.PipelineAutoConfig;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineMonitor;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineMonitorHolder;
+import com.github.cadecode.xboot.starter.actuator.pipeline.MicrometerPipelineMonitor;
+import com.github.cadecode.xboot.starter.actuator.pipeline.PipelineEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Pipeline 监控自动配置
+ * <p>
+ * 注册基于 Micrometer 的 PipelineMonitor，并在单例初始化完成后设置到 PipelineMonitorHolder；
+ * 端点 pipelines 暴露且存在 PipelineRegistry 时注册 PipelineEndpoint；
+ * 在 Micrometer 与 Pipeline 的自动配置之后处理，MeterRegistry 不存在时不生效
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Slf4j
+@AutoConfiguration(after = {MetricsAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class,
+        PipelineAutoConfig.class})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@EnableConfigurationProperties(PipelineMetricsProperties.class)
+@ConditionalOnProperty(name = "x-boot.pipeline.metrics.enable", havingValue = "true", matchIfMissing = true)
+public class PipelineMetricsAutoConfig {
+
+    @ConditionalOnMissingBean(PipelineMonitor.class)
+    @Bean
+    public MicrometerPipelineMonitor pipelineMonitor(MeterRegistry meterRegistry, PipelineMetricsProperties properties) {
+        return new MicrometerPipelineMonitor(meterRegistry, properties.getPercentiles(), properties.isPercentileHistogram());
+    }
+
+    @ConditionalOnBean({MicrometerPipelineMonitor.class, PipelineRegistry.class})
+    @ConditionalOnAvailableEndpoint(endpoint = PipelineEndpoint.class)
+    @Bean
+    public PipelineEndpoint pipelineEndpoint(PipelineRegistry pipelineRegistry, MicrometerPipelineMonitor pipelineMonitor) {
+        return new PipelineEndpoint(pipelineRegistry, pipelineMonitor);
+    }
+
+    @Bean
+    public SmartInitializingSingleton pipelineMonitorRegistrar(PipelineMonitor pipelineMonitor,
+                                                               PipelineMetricsProperties properties) {
+        return () -> {
+            PipelineMonitorHolder.setMonitor(pipelineMonitor);
+            PipelineMonitorHolder.setTraceSampleRate(properties.getTraceSampleRate());
+            log.info("Pipeline monitor registered: {}, trace sample rate: {}",
+                    pipelineMonitor.getClass().getSimpleName(), properties.getTraceSampleRate());
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.cadecode.xboot.starter.actuator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Pipeline 监控配置项
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Data
+@ConfigurationProperties("x-boot.pipeline.metrics")
+public class PipelineMetricsProperties {
+
+    /**
+     * 是否开启 Pipeline 监控
+     */
+    private boolean enable = true;
+
+    /**
+     * filter 及整体耗时发布的百分位
+     */
+    private double[] percentiles = {0.5, 0.99};
+
+    /**
+     * 是否发布百分位直方图，供 Prometheus 等后端聚合
+     */
+    private boolean percentileHistogram = false;
+
+    /**
+     * trace 日志采样比例，取值 [0, 1]，0 表示关闭，需同时开启 TracingPipelineProbe 的 DEBUG 日志
+     */
+    private double traceSampleRate = 0D;
+}
@@ -0,0 +1,40 @@
+package com.github.cadecode.xboot.starter.actuator.config;
+
+import com.github.cadecode.xboot.common.extension.plugin.config.PluginAutoConfig;
+import com.github.cadecode.xboot.common.extension.plugin.monitor.PluginMonitor;
+import com.github.cadecode.xboot.starter.actuator.plugin.MicrometerPluginMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Plugin 监控自动配置
+ * <p>
+ * 注册基于 Micrometer 的 PluginMonitor，由 PluginAutoConfig 设置到 PluginSelectorExecutor；
+ * 在 Micrometer 的自动配置之后、PluginAutoConfig 之前处理，MeterRegistry 不存在时不生效
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@AutoConfiguration(after = {MetricsAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class},
+        before = PluginAutoConfig.class)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@EnableConfigurationProperties(PluginMetricsProperties.class)
+@ConditionalOnProperty(name = "x-boot.plugin.metrics.enable", havingValue = "true", matchIfMissing = true)
+public class PluginMetricsAutoConfig {
+
+    @ConditionalOnMissingBean(PluginMonitor.class)
+    @Bean
+    public MicrometerPluginMonitor pluginMonitor(MeterRegistry meterRegistry, PluginMetricsProperties properties) {
+        return new MicrometerPluginMonitor(meterRegistry, properties.getPercentiles(), properties.isPercentileHistogram(),
+                properties.getSlowCallThreshold(), properties.getSlowCallLogInterval());
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.cadecode.xboot.starter.actuator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Plugin 监控配置项
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Data
+@ConfigurationProperties("x-boot.plugin.metrics")
+public class PluginMetricsProperties {
+
+    /**
+     * 是否开启 Plugin 监控
+     */
+    private boolean enable = true;
+
+    /**
+     * 选择及调用耗时发布的百分位
+     */
+    private double[] percentiles = {0.5, 0.99};
+
+    /**
+     * 是否发布百分位直方图，供 Prometheus 等后端聚合
+     */
+    private boolean percentileHistogram = false;
+
+    /**
+     * 慢调用阈值，超过时输出 WARN 日志，不配置时关闭
+     */
+    private Duration slowCallThreshold;
+
+    /**
+     * 同一插件两次慢调用日志的最小间隔，期间的慢调用只计数
+     */
+    private Duration slowCallLogInterval = Duration.ofMinutes(1);
+}
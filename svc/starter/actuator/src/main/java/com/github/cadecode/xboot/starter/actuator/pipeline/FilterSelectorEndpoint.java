@@ -0,0 +1,51 @@
+package com.github.cadecode.xboot.starter.actuator.pipeline;
+
+import com.github.cadecode.xboot.common.extension.pipeline.selector.FilterSelectorRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * FilterSelector 端点
+ * <p>
+ * GET /actuator/filterselectors 查看各注册表当前生效的 filter-selectors，
+ * POST /actuator/filterselectors 重新读取配置来源并刷新所有注册表，来源为 FilterSelectorBinder.source 时从 Environment 重新绑定
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Endpoint(id = "filterselectors")
+public class FilterSelectorEndpoint {
+
+    /**
+     * bean name → 注册表
+     */
+    private final Map<String, FilterSelectorRegistry> registries;
+
+    public FilterSelectorEndpoint(Map<String, FilterSelectorRegistry> registries) {
+        this.registries = registries;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, List<String>>> selectors() {
+        Map<String, Map<String, List<String>>> result = new TreeMap<>();
+        registries.forEach((name, registry) -> result.put(name, new TreeMap<>(registry.getFilterSelectors())));
+        return result;
+    }
+
+    /**
+     * 刷新所有注册表
+     *
+     * @return bean name → 配置是否变化
+     */
+    @WriteOperation
+    public Map<String, Boolean> refresh() {
+        Map<String, Boolean> result = new TreeMap<>();
+        registries.forEach((name, registry) -> result.put(name, registry.refresh()));
+        return result;
+    }
+}
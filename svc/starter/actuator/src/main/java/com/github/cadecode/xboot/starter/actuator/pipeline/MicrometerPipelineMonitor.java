@@ -0,0 +1,187 @@
+package com.github.cadecode.xboot.starter.actuator.pipeline;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineMonitor;
+import com.github.cadecode.xboot.common.extension.pipeline.monitor.PipelineProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Micrometer 的 Pipeline 监控
+ * <p>
+ * 探针创建时注册好所有 meter，执行时只按下标访问数组，不再查找 registry
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class MicrometerPipelineMonitor implements PipelineMonitor {
+
+    public static final String EXECUTION_METRIC = "pipeline.execution";
+    public static final String FILTER_METRIC = "pipeline.filter";
+    public static final String SKIPPED_METRIC = "pipeline.skipped";
+    public static final String INTERRUPTED_METRIC = "pipeline.interrupted";
+    public static final String DEPTH_METRIC = "pipeline.depth";
+
+    public static final String TAG_TYPE = "type";
+    public static final String TAG_FILTER = "filter";
+    public static final String TAG_OUTCOME = "outcome";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * filter 耗时发布的百分位
+     */
+    private final double[] percentiles;
+
+    /**
+     * 是否发布直方图，供 Prometheus 等后端聚合百分位
+     */
+    private final boolean percentileHistogram;
+
+    /**
+     * 按业务类型合并已创建的探针，供 PipelineEndpoint 查询；
+     * 多个执行器服务同一业务类型时，filter 按名称合并，同名 filter 的 meter 在 registry 中本就是同一个
+     */
+    private final Map<String, MicrometerPipelineProbe> probes = new ConcurrentHashMap<>();
+
+    public MicrometerPipelineMonitor(MeterRegistry meterRegistry) {
+        this(meterRegistry, new double[]{0.5, 0.99}, false);
+    }
+
+    public MicrometerPipelineMonitor(MeterRegistry meterRegistry, double[] percentiles, boolean percentileHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.percentiles = percentiles;
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @Override
+    public PipelineProbe probe(ExtensionType type, List<String> filterNames) {
+        String typeName = type.getType();
+        int size = filterNames.size();
+        Timer[] filterTimers = new Timer[size];
+        Counter[] skipCounters = new Counter[size];
+        Counter[] interruptCounters = new Counter[size];
+        for (int i = 0; i < size; i++) {
+            String filterName = filterNames.get(i);
+            filterTimers[i] = Timer.builder(FILTER_METRIC)
+                    .description("Pipeline filter execution time")
+                    .tag(TAG_TYPE, typeName)
+                    .tag(TAG_FILTER, filterName)
+                    .publishPercentiles(percentiles)
+                    .publishPercentileHistogram(percentileHistogram)
+                    .register(meterRegistry);
+            skipCounters[i] = Counter.builder(SKIPPED_METRIC)
+                    .description("Pipeline filter skipped by selector")
+                    .tag(TAG_TYPE, typeName)
+                    .tag(TAG_FILTER, filterName)
+                    .register(meterRegistry);
+            interruptCounters[i] = Counter.builder(INTERRUPTED_METRIC)
+                    .description("Pipeline chain interrupted by filter")
+                    .tag(TAG_TYPE, typeName)
+                    .tag(TAG_FILTER, filterName)
+                    .register(meterRegistry);
+        }
+        DistributionSummary depthSummary = DistributionSummary.builder(DEPTH_METRIC)
+                .description("Number of filters reached by a pipeline execution")
+                .tag(TAG_TYPE, typeName)
+                .register(meterRegistry);
+        MicrometerPipelineProbe probe = new MicrometerPipelineProbe(List.copyOf(filterNames),
+                filterTimers, skipCounters, interruptCounters, depthSummary,
+                executionTimer(typeName, "success"), executionTimer(typeName, "error"));
+        probes.merge(typeName, probe, MicrometerPipelineProbe::merge);
+        return probe;
+    }
+
+    /**
+     * 已创建探针的业务类型及其合并后的探针
+     */
+    public Map<String, MicrometerPipelineProbe> getProbes() {
+        return Map.copyOf(probes);
+    }
+
+    private Timer executionTimer(String typeName, String outcome) {
+        return Timer.builder(EXECUTION_METRIC)
+                .description("Pipeline execution time")
+                .tag(TAG_TYPE, typeName)
+                .tag(TAG_OUTCOME, outcome)
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 单个业务类型的探针
+     */
+    public record MicrometerPipelineProbe(List<String> filterNames, Timer[] filterTimers,
+                                          Counter[] skipCounters, Counter[] interruptCounters,
+                                          DistributionSummary depthSummary,
+                                          Timer successTimer, Timer errorTimer) implements PipelineProbe {
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void onFilter(int index, long nanos) {
+            filterTimers[index].record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void onSkip(int index) {
+            skipCounters[index].increment();
+        }
+
+        @Override
+        public void onInterrupt(int index) {
+            interruptCounters[index].increment();
+        }
+
+        @Override
+        public void onComplete(int depth, long nanos, Throwable error) {
+            if (depth >= 0) {
+                depthSummary.record(depth);
+            }
+            (error == null ? successTimer : errorTimer).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * 合并同一业务类型的另一个探针，保留当前 filter 的顺序，追加 other 中新出现的 filter
+         */
+        MicrometerPipelineProbe merge(MicrometerPipelineProbe other) {
+            List<String> names = new ArrayList<>(filterNames);
+            List<Integer> added = new ArrayList<>();
+            for (int i = 0; i < other.filterNames.size(); i++) {
+                if (!names.contains(other.filterNames.get(i))) {
+                    names.add(other.filterNames.get(i));
+                    added.add(i);
+                }
+            }
+            if (added.isEmpty()) {
+                return this;
+            }
+            int size = names.size();
+            Timer[] timers = Arrays.copyOf(filterTimers, size);
+            Counter[] skips = Arrays.copyOf(skipCounters, size);
+            Counter[] interrupts = Arrays.copyOf(interruptCounters, size);
+            for (int i = 0; i < added.size(); i++) {
+                int from = added.get(i);
+                int to = filterNames.size() + i;
+                timers[to] = other.filterTimers[from];
+                skips[to] = other.skipCounters[from];
+                interrupts[to] = other.interruptCounters[from];
+            }
+            return new MicrometerPipelineProbe(List.copyOf(names), timers, skips, interrupts,
+                    depthSummary, successTimer, errorTimer);
+        }
+    }
+}
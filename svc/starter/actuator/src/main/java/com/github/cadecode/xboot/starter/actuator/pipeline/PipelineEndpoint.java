@@ -0,0 +1,132 @@
+package com.github.cadecode.xboot.starter.actuator.pipeline;
+
+import com.github.cadecode.xboot.common.extension.pipeline.PipelineRegistry;
+import com.github.cadecode.xboot.starter.actuator.pipeline.MicrometerPipelineMonitor.MicrometerPipelineProbe;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline 端点，列出 PipelineRegistry 中注册的每个 pipeline 及其 filter，并附上各业务类型的实时耗时百分位
+ * <p>
+ * GET /actuator/pipelines 列出全部 pipeline，GET /actuator/pipelines/{context} 查看单个上下文类型；
+ * 未执行过的 pipeline 与始终被跳过的 filter 同样列出，统计为 0
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Endpoint(id = "pipelines")
+public class PipelineEndpoint {
+
+    private final PipelineRegistry registry;
+
+    private final MicrometerPipelineMonitor monitor;
+
+    public PipelineEndpoint(PipelineRegistry registry, MicrometerPipelineMonitor monitor) {
+        this.registry = registry;
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public Map<String, PipelineDescriptor> pipelines() {
+        Map<String, MicrometerPipelineProbe> probes = monitor.getProbes();
+        Map<String, PipelineDescriptor> result = new TreeMap<>();
+        registry.getPipelines().forEach((contextClass, filterNames) ->
+                result.put(contextClass.getName(), describe(filterNames, probes)));
+        return result;
+    }
+
+    /**
+     * @param context 上下文类全名
+     */
+    @ReadOperation
+    public PipelineDescriptor pipeline(@Selector String context) {
+        return pipelines().get(context);
+    }
+
+    /**
+     * 探针包含 pipeline 全部 filter 的业务类型视为在该 pipeline 上执行过
+     */
+    private PipelineDescriptor describe(List<String> filterNames, Map<String, MicrometerPipelineProbe> probes) {
+        Map<String, ExecutionDescriptor> types = new TreeMap<>();
+        probes.forEach((type, probe) -> {
+            if (probe.filterNames().containsAll(filterNames)) {
+                types.put(type, describe(filterNames, probe));
+            }
+        });
+        return new PipelineDescriptor(filterNames, types);
+    }
+
+    private ExecutionDescriptor describe(List<String> filterNames, MicrometerPipelineProbe probe) {
+        List<FilterDescriptor> filters = new ArrayList<>(filterNames.size());
+        for (String filterName : filterNames) {
+            int i = probe.filterNames().indexOf(filterName);
+            Timer timer = probe.filterTimers()[i];
+            filters.add(new FilterDescriptor(filterName, timer.count(),
+                    timer.mean(TimeUnit.MILLISECONDS), percentiles(timer),
+                    (long) probe.skipCounters()[i].count(), (long) probe.interruptCounters()[i].count()));
+        }
+        Timer success = probe.successTimer();
+        return new ExecutionDescriptor(success.count(), probe.errorTimer().count(),
+                success.mean(TimeUnit.MILLISECONDS), percentiles(success), probe.depthSummary().mean(), filters);
+    }
+
+    /**
+     * 百分位 → 毫秒
+     */
+    private static Map<String, Double> percentiles(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            result.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+        }
+        return result;
+    }
+
+    /**
+     * 注册的 pipeline
+     *
+     * @param filters 按执行顺序排列的 filter 名称
+     * @param types   业务类型 → 统计，未执行过时为空
+     */
+    public record PipelineDescriptor(List<String> filters, Map<String, ExecutionDescriptor> types) {
+    }
+
+    /**
+     * 业务类型统计
+     *
+     * @param executions     成功执行次数
+     * @param errors         异常次数
+     * @param meanMillis     成功执行平均耗时
+     * @param percentiles    成功执行耗时百分位，单位毫秒
+     * @param meanDepth      平均到达的 filter 数量
+     * @param filters        filter 统计，按执行顺序排列
+     */
+    public record ExecutionDescriptor(long executions, long errors, double meanMillis, Map<String, Double> percentiles,
+                                      double meanDepth, List<FilterDescriptor> filters) {
+    }
+
+    /**
+     * filter 统计
+     *
+     * @param name        filter 名称
+     * @param executions  执行次数
+     * @param meanMillis  平均耗时
+     * @param percentiles 耗时百分位，单位毫秒
+     * @param skipped     被 selector 跳过次数
+     * @param interrupted 中断链次数
+     */
+    public record FilterDescriptor(String name, long executions, double meanMillis, Map<String, Double> percentiles,
+                                   long skipped, long interrupted) {
+    }
+}
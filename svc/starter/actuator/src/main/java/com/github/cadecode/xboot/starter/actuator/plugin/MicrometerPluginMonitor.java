@@ -0,0 +1,164 @@
+package com.github.cadecode.xboot.starter.actuator.plugin;
+
+import com.github.cadecode.xboot.common.enums.ExtensionType;
+import com.github.cadecode.xboot.common.extension.plugin.PluginService;
+import com.github.cadecode.xboot.common.extension.plugin.monitor.PluginMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基于 Micrometer 的 Plugin 监控
+ * <p>
+ * 按 (PluginService 子类型, 插件类, 业务类型) 缓存 meter，异常计数再按异常类型缓存，调用时不再向 registry 注册；
+ * 耗时超过慢调用阈值时输出 WARN 日志，同一组合在日志间隔内只输出一次，并带上期间被忽略的慢调用次数
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Slf4j
+public class MicrometerPluginMonitor implements PluginMonitor {
+
+    public static final String SELECTION_METRIC = "plugin.selection";
+    public static final String INVOCATION_METRIC = "plugin.invocation";
+    public static final String ERROR_METRIC = "plugin.errors";
+
+    public static final String TAG_SERVICE = "service";
+    public static final String TAG_PLUGIN = "plugin";
+    public static final String TAG_TYPE = "type";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_EXCEPTION = "exception";
+
+    private final MeterRegistry meterRegistry;
+
+    private final double[] percentiles;
+
+    private final boolean percentileHistogram;
+
+    /**
+     * 慢调用阈值，0 表示关闭
+     */
+    private final long slowCallNanos;
+
+    /**
+     * 同一组合两次慢调用日志的最小间隔
+     */
+    private final long slowLogIntervalNanos;
+
+    private final Map<SelectionKey, Timer> selectionTimers = new ConcurrentHashMap<>();
+
+    private final Map<InvocationKey, InvocationMeters> invocationMeters = new ConcurrentHashMap<>();
+
+    public MicrometerPluginMonitor(MeterRegistry meterRegistry) {
+        this(meterRegistry, new double[]{0.5, 0.99}, false, null, Duration.ofMinutes(1));
+    }
+
+    public MicrometerPluginMonitor(MeterRegistry meterRegistry, double[] percentiles, boolean percentileHistogram,
+                                   Duration slowCallThreshold, Duration slowLogInterval) {
+        this.meterRegistry = meterRegistry;
+        this.percentiles = percentiles;
+        this.percentileHistogram = percentileHistogram;
+        this.slowCallNanos = slowCallThreshold != null ? slowCallThreshold.toNanos() : 0L;
+        this.slowLogIntervalNanos = slowLogInterval != null ? slowLogInterval.toNanos() : 0L;
+    }
+
+    @Override
+    public void onSelect(Class<?> serviceType, ExtensionType type, long nanos) {
+        selectionTimers.computeIfAbsent(new SelectionKey(serviceType, type), this::selectionTimer)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onInvoke(Class<?> serviceType, PluginService plugin, ExtensionType type, long nanos, Throwable error) {
+        InvocationKey key = new InvocationKey(serviceType, ClassUtils.getUserClass(plugin), type);
+        InvocationMeters meters = invocationMeters.computeIfAbsent(key, this::invocationMeters);
+        if (error == null) {
+            meters.successTimer().record(nanos, TimeUnit.NANOSECONDS);
+        } else {
+            meters.errorTimer().record(nanos, TimeUnit.NANOSECONDS);
+            meters.errorCounters().computeIfAbsent(error.getClass(), errorType -> errorCounter(key, errorType))
+                    .increment();
+        }
+        if (slowCallNanos > 0L && nanos > slowCallNanos) {
+            onSlowCall(key, meters, nanos);
+        }
+    }
+
+    private void onSlowCall(InvocationKey key, InvocationMeters meters, long nanos) {
+        long now = System.nanoTime();
+        long last = meters.lastSlowLog().get();
+        if (last != 0L && now - last < slowLogIntervalNanos || !meters.lastSlowLog().compareAndSet(last, now | 1L)) {
+            meters.suppressedSlowCalls().increment();
+            return;
+        }
+        log.warn("Slow plugin call: {} [{}] for type '{}' took {}ms, threshold {}ms, {} slow calls suppressed since last warning",
+                key.serviceType().getSimpleName(), key.pluginClass().getSimpleName(), typeName(key.type()),
+                TimeUnit.NANOSECONDS.toMillis(nanos), TimeUnit.NANOSECONDS.toMillis(slowCallNanos),
+                meters.suppressedSlowCalls().sumThenReset());
+    }
+
+    private Timer selectionTimer(SelectionKey key) {
+        return Timer.builder(SELECTION_METRIC)
+                .description("Plugin selection time")
+                .tag(TAG_SERVICE, key.serviceType().getSimpleName())
+                .tag(TAG_TYPE, typeName(key.type()))
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry);
+    }
+
+    private InvocationMeters invocationMeters(InvocationKey key) {
+        return new InvocationMeters(invocationTimer(key, "success"), invocationTimer(key, "error"),
+                new ConcurrentHashMap<>(), new AtomicLong(), new LongAdder());
+    }
+
+    private Counter errorCounter(InvocationKey key, Class<?> errorType) {
+        return Counter.builder(ERROR_METRIC)
+                .description("Plugin invocation errors")
+                .tag(TAG_SERVICE, key.serviceType().getSimpleName())
+                .tag(TAG_PLUGIN, key.pluginClass().getSimpleName())
+                .tag(TAG_TYPE, typeName(key.type()))
+                .tag(TAG_EXCEPTION, errorType.getSimpleName())
+                .register(meterRegistry);
+    }
+
+    private Timer invocationTimer(InvocationKey key, String outcome) {
+        return Timer.builder(INVOCATION_METRIC)
+                .description("Plugin invocation time")
+                .tag(TAG_SERVICE, key.serviceType().getSimpleName())
+                .tag(TAG_PLUGIN, key.pluginClass().getSimpleName())
+                .tag(TAG_TYPE, typeName(key.type()))
+                .tag(TAG_OUTCOME, outcome)
+                .publishPercentiles(percentiles)
+                .publishPercentileHistogram(percentileHistogram)
+                .register(meterRegistry);
+    }
+
+    private static String typeName(ExtensionType type) {
+        return type != null ? type.getType() : "none";
+    }
+
+    private record SelectionKey(Class<?> serviceType, ExtensionType type) {
+    }
+
+    private record InvocationKey(Class<?> serviceType, Class<?> pluginClass, ExtensionType type) {
+    }
+
+    /**
+     * @param errorCounters       按异常类型缓存的异常计数
+     * @param lastSlowLog         上次输出慢调用日志的 System.nanoTime，0 表示未输出过
+     * @param suppressedSlowCalls 上次日志之后被忽略的慢调用次数
+     */
+    private record InvocationMeters(Timer successTimer, Timer errorTimer, Map<Class<?>, Counter> errorCounters,
+                                    AtomicLong lastSlowLog, LongAdder suppressedSlowCalls) {
+    }
+}
@@ -4,9 +4,11 @@ import cn.hutool.core.util.ObjUtil;
 import com.github.cadecode.xboot.common.exception.GeneralException;
 import com.github.cadecode.xboot.common.util.JacksonUtil;
 import com.github.cadecode.xboot.starter.web.annotation.ApiFormat;
+import com.github.cadecode.xboot.starter.web.convertor.ApiResultStringHttpMessageConverter;
 import com.github.cadecode.xboot.starter.web.enums.WebErrorEnum;
 import com.github.cadecode.xboot.starter.web.model.ApiResult;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
@@ -15,10 +17,15 @@ import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
+import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ApiResult 统一格式化
+ * <p>
+ * 每个 handler 方法是否需要包装只解析一次 ApiFormat 注解并缓存，不需要包装且不会返回 ApiResult 的接口在 supports 中跳过
  *
  * @author Cade Li
  * @date 2022/5/8
@@ -26,9 +33,14 @@ import java.util.Objects;
 @RestControllerAdvice
 public class ApiResultAdvisor implements ResponseBodyAdvice<Object> {
 
+    /**
+     * handler 所在类 → handler 方法 → 是否需要包装
+     */
+    private final Map<Class<?>, Map<Method, Boolean>> formatCache = new ConcurrentHashMap<>();
+
     @Override
     public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
-        return true;
+        return isFormat(returnType) || mayReturnApiResult(returnType.getParameterType());
     }
 
     @Override
@@ -45,44 +57,87 @@ public class ApiResultAdvisor implements ResponseBodyAdvice<Object> {
             // 统一设置路径
             return result.path(path);
         }
-        return apiResultFormat(returnType, body, response);
+        return apiResultFormat(returnType, body, selectedConverterType, response);
     }
 
     /**
      * 根据 ApiFormat 注解判断是否需要包装成 ApiResult
      *
-     * @param returnType MethodParameter
-     * @param body       响应体
+     * @param returnType            MethodParameter
+     * @param body                  响应体
+     * @param selectedConverterType 选中的消息转换器类型
      * @return 经过包装的 body
      */
-    private Object apiResultFormat(MethodParameter returnType, Object body, ServerHttpResponse response) {
-        // 是否需要包装标记
-        boolean formatFlag;
-        // 获取方法上的 ApiFormat 注解
-        ApiFormat formatM = returnType.getMethodAnnotation(ApiFormat.class);
-        // 以方法上注解为主
-        if (Objects.nonNull(formatM)) {
-            formatFlag = formatM.value();
-        } else {
-            // 获取类上的 ApiFormat 注解
-            ApiFormat formatC = returnType.getContainingClass().getAnnotation(ApiFormat.class);
-            formatFlag = Objects.nonNull(formatC) && formatC.value();
-        }
+    private Object apiResultFormat(MethodParameter returnType, Object body,
+                                   Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                   ServerHttpResponse response) {
         // 不需要包装，直接返回
-        if (!formatFlag) {
+        if (!isFormat(returnType)) {
             return body;
         }
         // 设置状态码为 200
         response.setStatusCode(HttpStatus.OK);
         if (body instanceof String) {
             response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            // 由 ApiResultStringHttpMessageConverter 直接序列化为字节数组写出，不生成中间字符串
+            if (ApiResultStringHttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
+                return ApiResult.ok(body);
+            }
             // String 类型的 Body 需要返回 String 类型，否则报转换错误
             return JacksonUtil.toJson(ApiResult.ok(body));
         }
         // 对接口返回 null 特殊处理
         if (ObjUtil.isNull(body)) {
-            throw GeneralException.of(WebErrorEnum.RES_BODY_NULL, "");
+            throw GeneralException.of(WebErrorEnum.RES_BODY_NULL);
         }
         return ApiResult.ok(body);
     }
+
+    /**
+     * 是否需要包装，按 handler 方法缓存
+     *
+     * @param returnType MethodParameter
+     * @return 是否需要包装
+     */
+    private boolean isFormat(MethodParameter returnType) {
+        Method method = returnType.getMethod();
+        if (Objects.isNull(method)) {
+            return resolveFormat(returnType);
+        }
+        Map<Method, Boolean> methodCache = formatCache.get(returnType.getContainingClass());
+        if (Objects.isNull(methodCache)) {
+            methodCache = formatCache.computeIfAbsent(returnType.getContainingClass(), k -> new ConcurrentHashMap<>());
+        }
+        Boolean formatFlag = methodCache.get(method);
+        if (Objects.isNull(formatFlag)) {
+            formatFlag = methodCache.computeIfAbsent(method, k -> resolveFormat(returnType));
+        }
+        return formatFlag;
+    }
+
+    /**
+     * 根据 ApiFormat 注解判断是否需要包装，以方法上注解为主
+     */
+    private static boolean resolveFormat(MethodParameter returnType) {
+        // 获取方法上的 ApiFormat 注解
+        ApiFormat formatM = returnType.getMethodAnnotation(ApiFormat.class);
+        if (Objects.nonNull(formatM)) {
+            return formatM.value();
+        }
+        // 获取类上的 ApiFormat 注解
+        ApiFormat formatC = returnType.getContainingClass().getAnnotation(ApiFormat.class);
+        return Objects.nonNull(formatC) && formatC.value();
+    }
+
+    /**
+     * 返回值是否可能是 ApiResult，需要设置状态码与路径，如异常处理方法
+     *
+     * @param type 返回值类型
+     * @return 是否可能是 ApiResult
+     */
+    private static boolean mayReturnApiResult(Class<?> type) {
+        return type.isAssignableFrom(ApiResult.class)
+                || ApiResult.class.isAssignableFrom(type)
+                || HttpEntity.class.isAssignableFrom(type);
+    }
 }
@@ -0,0 +1,100 @@
+package com.github.cadecode.xboot.starter.web.advisor;
+
+import com.github.cadecode.xboot.common.enums.ErrorCode;
+import com.github.cadecode.xboot.starter.web.enums.WebErrorEnum;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 异常类型和错误码的映射注册表
+ * <p>
+ * 每个具体异常类型第一次出现时沿父类查找最近的映射，结果按类型缓存在 ClassValue 中，之后直接命中；
+ * 业务可注入该 bean 调用 register 添加映射，未被其他 ExceptionHandler 处理的异常由 GeneralExceptionAdvisor 按映射返回错误码
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+@Component
+public class ExceptionCodeRegistry {
+
+    private final Map<Class<? extends Throwable>, ErrorCode> mappings = new ConcurrentHashMap<>();
+
+    /**
+     * 解析结果缓存，映射变化时整体替换
+     */
+    private volatile ClassValue<Optional<ErrorCode>> cache = newCache();
+
+    public ExceptionCodeRegistry() {
+        // 请求参数错误
+        register(ServletRequestBindingException.class, WebErrorEnum.REQ_PARAM_INVALID);
+        // 请求体错误
+        register(HttpMessageNotReadableException.class, WebErrorEnum.REQ_BODY_INVALID);
+        // content-type 错误
+        register(HttpMediaTypeNotSupportedException.class, WebErrorEnum.MEDIA_TYPE_NO_SUPPORT);
+        // 参数类型转换错误
+        register(TypeMismatchException.class, WebErrorEnum.PARAM_TYPE_CONVERT_ERROR);
+        // 请求方法不支持
+        register(HttpRequestMethodNotSupportedException.class, WebErrorEnum.METHOD_NO_SUPPORT);
+        // 静态资源不存在
+        register(NoResourceFoundException.class, WebErrorEnum.NO_RESOURCE_FOUND);
+    }
+
+    /**
+     * 添加或覆盖映射，子类异常可单独映射，优先于父类
+     *
+     * @param exceptionType 异常类型
+     * @param errorCode     错误码
+     * @return this
+     */
+    public ExceptionCodeRegistry register(Class<? extends Throwable> exceptionType, ErrorCode errorCode) {
+        mappings.put(Objects.requireNonNull(exceptionType), Objects.requireNonNull(errorCode));
+        cache = newCache();
+        return this;
+    }
+
+    /**
+     * 查找异常类型对应的错误码
+     *
+     * @param exceptionType 异常类型
+     * @return 最近的父类映射，未找到时为空
+     */
+    public Optional<ErrorCode> resolve(Class<? extends Throwable> exceptionType) {
+        return cache.get(exceptionType);
+    }
+
+    /**
+     * 查找异常对应的错误码
+     *
+     * @param e           异常
+     * @param defaultCode 未找到时返回的错误码
+     * @return 错误码
+     */
+    public ErrorCode resolve(Throwable e, ErrorCode defaultCode) {
+        return resolve(e.getClass()).orElse(defaultCode);
+    }
+
+    private ClassValue<Optional<ErrorCode>> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Optional<ErrorCode> computeValue(Class<?> type) {
+                for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+                    ErrorCode errorCode = mappings.get(clazz);
+                    if (Objects.nonNull(errorCode)) {
+                        return Optional.of(errorCode);
+                    }
+                }
+                return Optional.empty();
+            }
+        };
+    }
+}
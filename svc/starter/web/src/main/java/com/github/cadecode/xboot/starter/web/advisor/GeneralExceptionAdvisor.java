@@ -21,6 +21,12 @@ import java.util.Objects;
 @RestControllerAdvice
 public class GeneralExceptionAdvisor {
 
+    private final ExceptionCodeRegistry exceptionCodeRegistry;
+
+    public GeneralExceptionAdvisor(ExceptionCodeRegistry exceptionCodeRegistry) {
+        this.exceptionCodeRegistry = exceptionCodeRegistry;
+    }
+
     /**
      * 处理 GeneralException
      */
@@ -35,11 +41,11 @@ public class GeneralExceptionAdvisor {
     }
 
     /**
-     * 兜底处理一般异常
+     * 兜底处理一般异常，错误码从 ExceptionCodeRegistry 中查找
      */
     @ExceptionHandler(Exception.class)
     public ApiResult<Object> handleException(Exception e, HttpServletRequest request) {
         log.error("Handle exception, uri:{} =>", request.getRequestURI(), e);
-        return ApiResult.error(ErrorCode.UNKNOWN).moreInfo(e.getMessage());
+        return ApiResult.error(exceptionCodeRegistry.resolve(e, ErrorCode.UNKNOWN)).moreInfo(e.getMessage());
     }
 }
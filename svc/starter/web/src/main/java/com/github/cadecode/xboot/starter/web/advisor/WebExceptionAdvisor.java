@@ -19,9 +19,6 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +32,12 @@ import java.util.stream.Collectors;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class WebExceptionAdvisor {
 
+    private final ExceptionCodeRegistry exceptionCodeRegistry;
+
+    public WebExceptionAdvisor(ExceptionCodeRegistry exceptionCodeRegistry) {
+        this.exceptionCodeRegistry = exceptionCodeRegistry;
+    }
+
     /**
      * 限流异常
      */
@@ -67,24 +70,6 @@ public class WebExceptionAdvisor {
         return ApiResult.error(WebErrorEnum.VALIDATED_ERROR).moreInfo(msg).path(request.getRequestURI());
     }
 
-    /**
-     * Spring MVC 异常类型和错误枚举的映射
-     */
-    private static final Map<Class<?>, ErrorCode> MVC_EXP_CODE_MAP = new HashMap<>() {{
-        // 请求参数错误
-        put(ServletRequestBindingException.class, WebErrorEnum.REQ_PARAM_INVALID);
-        // 请求体错误
-        put(HttpMessageNotReadableException.class, WebErrorEnum.REQ_BODY_INVALID);
-        // content-type 错误
-        put(HttpMediaTypeNotSupportedException.class, WebErrorEnum.MEDIA_TYPE_NO_SUPPORT);
-        // 参数类型转换错误
-        put(TypeMismatchException.class, WebErrorEnum.PARAM_TYPE_CONVERT_ERROR);
-        // 请求方法不支持
-        put(HttpRequestMethodNotSupportedException.class, WebErrorEnum.METHOD_NO_SUPPORT);
-        // 静态资源不存在
-        put(NoResourceFoundException.class, WebErrorEnum.NO_RESOURCE_FOUND);
-    }};
-
     /**
      * 处理 Spring MVC 参数异常
      */
@@ -99,13 +84,8 @@ public class WebExceptionAdvisor {
     public ApiResult<Object> handleMvcException(Exception e, HttpServletRequest request) {
         log.error("Handle spring mvc exception, uri:{} =>", request.getRequestURI(), e);
         String requestURI = request.getRequestURI();
-        // 根据异常类型查找 map 中的 code 枚举
-        ErrorCode errorCode = MVC_EXP_CODE_MAP.entrySet()
-                .stream()
-                .filter(o -> o.getKey().isAssignableFrom(e.getClass()))
-                .map(Entry::getValue)
-                .findFirst()
-                .orElse(ErrorCode.UNKNOWN);
+        // 根据异常类型查找注册表中的 code 枚举
+        ErrorCode errorCode = exceptionCodeRegistry.resolve(e, ErrorCode.UNKNOWN);
         return ApiResult.error(errorCode).moreInfo(e.getMessage()).path(requestURI);
     }
 }
@@ -0,0 +1,79 @@
+package com.github.cadecode.xboot.starter.web.convertor;
+
+import com.github.cadecode.xboot.common.util.JacksonUtil;
+import com.github.cadecode.xboot.starter.web.model.ApiResult;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * String 返回值的消息转换器
+ * <p>注册在 StringHttpMessageConverter 之前，只负责写出返回值类型为 String 的响应：
+ * ApiResultAdvisor 将需要包装的 String 返回为 ApiResult，由该转换器通过 Jackson 直接序列化为字节数组，
+ * 不再生成 JSON 中间字符串，输出与 JacksonUtil.toJson 一致；未包装的 String 交给原 StringHttpMessageConverter 写出
+ * <p>完整的响应体先缓冲为一个 byte[] 再写出，并非流式输出：以占用一份编码后响应体的内存为代价设置 Content-Length
+ *
+ * @author Cade Li
+ * @since 2026/10/18
+ */
+public class ApiResultStringHttpMessageConverter implements HttpMessageConverter<Object> {
+
+    private final StringHttpMessageConverter stringConverter;
+
+    /**
+     * @param stringConverter 容器中原有的 StringHttpMessageConverter，保留其字符集等配置
+     */
+    public ApiResultStringHttpMessageConverter(StringHttpMessageConverter stringConverter) {
+        this.stringConverter = stringConverter;
+    }
+
+    /**
+     * 请求体仍由 StringHttpMessageConverter 读取
+     */
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return String.class == clazz && stringConverter.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return stringConverter.getSupportedMediaTypes();
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage) throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("ApiResultStringHttpMessageConverter does not support read", inputMessage);
+    }
+
+    @Override
+    public void write(Object body, MediaType contentType, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (!(body instanceof ApiResult<?>)) {
+            stringConverter.write((String) body, contentType, outputMessage);
+            return;
+        }
+        HttpHeaders headers = outputMessage.getHeaders();
+        if (Objects.isNull(headers.getContentType())) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        byte[] bytes = JacksonUtil.getMapper().writeValueAsBytes(body);
+        headers.setContentLength(bytes.length);
+        // 响应流由容器关闭
+        StreamUtils.copy(bytes, outputMessage.getBody());
+    }
+}
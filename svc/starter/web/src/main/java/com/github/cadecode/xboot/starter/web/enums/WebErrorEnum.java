@@ -64,14 +64,24 @@ public enum WebErrorEnum implements ErrorCode {
     /**
      * 特殊处理接口返回 null 的情况
      */
-    RES_BODY_NULL("WEB_9999", "响应体为空");
+    RES_BODY_NULL("WEB_9999", "响应体为空", true);
 
     private final String code;
 
     private final String message;
 
+    /**
+     * 是否为预期内的错误，如接口返回 null 时作为控制流抛出，不需要调用栈
+     */
+    private final boolean expected;
+
     WebErrorEnum(String code, String message) {
+        this(code, message, false);
+    }
+
+    WebErrorEnum(String code, String message, boolean expected) {
         this.code = code;
         this.message = message;
+        this.expected = expected;
     }
 }